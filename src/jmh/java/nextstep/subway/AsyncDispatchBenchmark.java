@@ -0,0 +1,85 @@
+package nextstep.subway;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 모드의 쓰기 API 는 이미 완료된 CompletableFuture 를 돌려줍니다. CompletedFutureReturnValueHandler 가 이를 비동기 디스패치 없이
+ * 응답하므로 일반 ResponseEntity 를 돌려줄 때와 차이가 없어야 합니다. 같은 본문을 세 방식으로 응답하는 API 를 호출해 비교하고,
+ * asyncDispatch 로 비동기 디스패치를 실제로 거칠 때의 비용도 함께 잽니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AsyncDispatchBenchmark {
+    static final String PROFILE = "dispatch-benchmark";
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        private SubwayBenchmarkContext context;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // 요청마다 남는 접근 로그가 디스패치 비용보다 훨씬 커서 차이를 가리므로 끕니다.
+            context = SubwayBenchmarkContext.startServer("spring.profiles.active=" + PROFILE, "logging.level.root=warn",
+                    "logback.access.enabled=false");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int plainResponse(Server server) throws IOException {
+        return server.context.request("GET", "/benchmark/dispatch/plain", null);
+    }
+
+    @Benchmark
+    public int completedFuture(Server server) throws IOException {
+        return server.context.request("GET", "/benchmark/dispatch/completed", null);
+    }
+
+    @Benchmark
+    public int asyncDispatch(Server server) throws IOException {
+        return server.context.request("GET", "/benchmark/dispatch/async", null);
+    }
+
+    @Profile(PROFILE)
+    @RestController
+    static class DispatchController {
+        private static final Map<String, String> BODY = Collections.singletonMap("name", "강남역");
+
+        @GetMapping("/benchmark/dispatch/plain")
+        public ResponseEntity<Map<String, String>> plain() {
+            return ResponseEntity.ok(BODY);
+        }
+
+        @GetMapping("/benchmark/dispatch/completed")
+        public CompletableFuture<ResponseEntity<Map<String, String>>> completed() {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(BODY));
+        }
+
+        /**
+         * 이미 완료된 결과라도 CompletableFuture 가 아니므로 항상 비동기 디스패치를 거칩니다.
+         */
+        @GetMapping("/benchmark/dispatch/async")
+        public ListenableFuture<ResponseEntity<Map<String, String>>> async() {
+            return new AsyncResult<>(ResponseEntity.ok(BODY));
+        }
+    }
+}
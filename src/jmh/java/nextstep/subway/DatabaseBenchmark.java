@@ -0,0 +1,165 @@
+package nextstep.subway;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import nextstep.subway.application.LineService;
+import nextstep.subway.application.SectionService;
+import nextstep.subway.application.StationService;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.dto.SectionRequest;
+import nextstep.subway.dto.StationBatchResponse;
+import nextstep.subway.dto.StationRequest;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * prod 프로필의 커넥션 풀, 문장 캐시, 배치 설정으로 별도 프로세스처럼 접속하는 데이터베이스에 대한 비용을 측정합니다.
+ * H2 는 TCP 서버 모드로, PostgreSQL 은 내장 바이너리로 띄우므로 도커 없이 실행됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatabaseBenchmark {
+    private static final int SECTION_COUNT = 1000;
+    private static final int STATION_BATCH_SIZE = 100;
+
+    @State(Scope.Benchmark)
+    public static class Network {
+        @Param({"h2-server", "postgres"})
+        private String database;
+
+        private Database server;
+        private SubwayBenchmarkContext context;
+        private LineRepository lineRepository;
+        private LineService lineService;
+        private SectionService sectionService;
+        private StationService stationService;
+        private Long lineId;
+        private Long newStationId;
+        private SectionRequest addRequest;
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            server = Database.start(database);
+            context = SubwayBenchmarkContext.start(
+                    "spring.profiles.active=prod",
+                    "spring.datasource.url=" + server.getJdbcUrl(),
+                    "spring.datasource.username=" + server.getUsername(),
+                    "spring.datasource.password=",
+                    "logging.level.root=warn");
+            lineRepository = context.getBean(LineRepository.class);
+            lineService = context.getBean(LineService.class);
+            sectionService = context.getBean(SectionService.class);
+            stationService = context.getBean(StationService.class);
+
+            List<Station> stations = context.saveStations("역", SECTION_COUNT + 1);
+            lineId = context.saveLine("신분당선", stations);
+
+            newStationId = context.saveStations("새로운역", 1).get(0).getId();
+            addRequest = new SectionRequest(stations.get(SECTION_COUNT / 2).getId(), newStationId, SyntheticNetwork.DISTANCE / 2);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            context.close();
+            server.close();
+        }
+    }
+
+    @Benchmark
+    public Line findByIdWithSections(Network network) {
+        return network.context.inTransaction(() -> network.lineRepository.findByIdWithSections(network.lineId).orElseThrow(IllegalStateException::new));
+    }
+
+    @Benchmark
+    public void saveAndRemoveSection(Network network) {
+        network.sectionService.saveSection(network.lineId, network.addRequest);
+        network.lineService.removeSectionByStationId(network.lineId, network.newStationId);
+    }
+
+    @Benchmark
+    public List<StationBatchResponse> saveStations(Network network) {
+        long batch = network.sequence.incrementAndGet();
+        List<StationRequest> requests = IntStream.range(0, STATION_BATCH_SIZE)
+                .mapToObj(i -> new StationRequest("배치" + batch + "역" + i))
+                .collect(Collectors.toList());
+        return network.stationService.saveStations(requests);
+    }
+
+    /**
+     * 벤치마크가 접속할 데이터베이스 서버입니다.
+     */
+    interface Database extends AutoCloseable {
+        String getJdbcUrl();
+
+        String getUsername();
+
+        @Override
+        void close() throws IOException;
+
+        static Database start(String name) throws IOException, SQLException {
+            if ("postgres".equals(name)) {
+                return new Postgres(EmbeddedPostgres.start());
+            }
+            return new H2Server(Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start());
+        }
+    }
+
+    static class H2Server implements Database {
+        private final Server server;
+
+        H2Server(Server server) {
+            this.server = server;
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:subway;DB_CLOSE_DELAY=-1";
+        }
+
+        @Override
+        public String getUsername() {
+            return "sa";
+        }
+
+        @Override
+        public void close() {
+            server.stop();
+        }
+    }
+
+    static class Postgres implements Database {
+        private final EmbeddedPostgres postgres;
+
+        Postgres(EmbeddedPostgres postgres) {
+            this.postgres = postgres;
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return postgres.getJdbcUrl("postgres", "postgres");
+        }
+
+        @Override
+        public String getUsername() {
+            return "postgres";
+        }
+
+        @Override
+        public void close() throws IOException {
+            postgres.close();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package nextstep.subway;
+
+import nextstep.subway.domain.Station;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기본(요청 스레드에서 실행) 모드와 비동기 쓰기 모드의 요청 처리 지연 시간을 비교합니다.
+ * 쓰기 요청이 몰리는 동안 노선 조회가 함께 들어오는 상황을 같은 수의 읽기/쓰기 스레드로 재현하고,
+ * SampleTime 모드로 각 요청 종류의 백분위 지연 시간과 처리량을 봅니다.
+ * Tomcat 스레드 수를 쓰기 스레드 수보다 적게 두어 기본 모드에서 스레드 풀이 포화되도록 합니다.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestModeBenchmark {
+    private static final int TOMCAT_THREADS = 16;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+        @Param({"false", "true"})
+        private boolean asyncEnabled;
+
+        private SubwayBenchmarkContext context;
+        private Long lineId;
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = SubwayBenchmarkContext.startServer(
+                    "subway.async.enabled=" + asyncEnabled,
+                    "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                    "logging.level.root=warn");
+
+            List<Station> stations = context.saveStations("역", SyntheticNetwork.SECTIONS_PER_LINE + 1);
+            lineId = context.saveLine("신분당선", stations);
+            context.publishNetworkChanged();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        int readLine() throws IOException {
+            return context.request("GET", "/lines/" + lineId, null);
+        }
+
+        int createStation() throws IOException {
+            return context.request("POST", "/stations", "{\"name\":\"부하역" + sequence.incrementAndGet() + "\"}");
+        }
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(32)
+    public int readLine(Server server) throws IOException {
+        return server.readLine();
+    }
+
+    @Benchmark
+    @Group("burst")
+    @GroupThreads(32)
+    public int createStation(Server server) throws IOException {
+        return server.createStation();
+    }
+}
@@ -0,0 +1,83 @@
+package nextstep.subway;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션을 새 JVM 으로 띄워 요청을 받을 준비가 될 때까지의 시간을 기동 방식별로 측정합니다.
+ * 기본 설정, fast-startup 프로필, fast-startup 프로필에 AppCDS 아카이브를 더한 경우를 비교하며
+ * 마지막 경우는 ./gradlew cdsArchive 로 아카이브를 먼저 만들어 두어야 합니다.
+ * 실행할 클래스패스와 아카이브 위치는 jmh 작업이 시스템 프로퍼티로 넘겨 줍니다.
+ * 측정한 결과는 같은 디렉터리의 StartupBenchmark.md 에 남겨 두었습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    private static final String CLASSPATH_PROPERTY = "subway.startup.classpath";
+    private static final String CDS_ARCHIVE_PROPERTY = "subway.startup.cds-archive";
+    private static final String FAST_STARTUP = "fast-startup";
+    private static final String CDS = "-cds";
+
+    @Param({"default", "fast-startup", "fast-startup-cds"})
+    private String mode;
+
+    private List<String> command;
+    private File log;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.endsWith(CDS)) {
+            Path archive = Paths.get(requiredProperty(CDS_ARCHIVE_PROPERTY));
+            if (!Files.exists(archive)) {
+                throw new IllegalStateException("AppCDS 아카이브가 없습니다. ./gradlew cdsArchive 를 먼저 실행해 주세요: " + archive);
+            }
+            command.add("-Xshare:on");
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.add("-cp");
+        command.add(requiredProperty(CLASSPATH_PROPERTY));
+        command.add(SubwayApplication.class.getName());
+        if (mode.startsWith(FAST_STARTUP)) {
+            command.add("--spring.profiles.active=" + FAST_STARTUP);
+        }
+        command.add("--subway.startup.exit-on-ready=true");
+        command.add("--server.port=0");
+
+        log = Files.createTempFile("subway-startup-" + mode, ".log").toFile();
+    }
+
+    @Benchmark
+    public int startUp() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("애플리케이션이 정상적으로 기동되지 않았습니다. 로그: " + log);
+        }
+        return exitCode;
+    }
+
+    private static String requiredProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException(name + " 시스템 프로퍼티가 필요합니다.");
+        }
+        return value;
+    }
+}
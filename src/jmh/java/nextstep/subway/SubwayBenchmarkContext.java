@@ -0,0 +1,141 @@
+package nextstep.subway;
+
+import nextstep.subway.domain.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크를 위해 애플리케이션 컨텍스트를 띄우고 데이터를 적재합니다.
+ * 서비스 계층 벤치마크는 웹 서버 없이, 요청 처리 벤치마크는 내장 웹 서버와 함께 띄웁니다.
+ */
+public class SubwayBenchmarkContext implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+    private final TransactionTemplate transactionTemplate;
+
+    private SubwayBenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public static SubwayBenchmarkContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    /**
+     * 임의의 포트로 내장 웹 서버까지 띄웁니다. 포트는 {@link #getLocalPort()}로 얻습니다.
+     */
+    public static SubwayBenchmarkContext startServer(String... properties) {
+        return start(WebApplicationType.SERVLET, append(properties, "server.port=0"));
+    }
+
+    private static SubwayBenchmarkContext start(WebApplicationType webApplicationType, String... properties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(webApplicationType)
+                .run(toArguments(append(new String[]{
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.type.descriptor.sql=warn"}, properties)));
+        return new SubwayBenchmarkContext(context);
+    }
+
+    /**
+     * 빌더의 기본 프로퍼티는 application.properties 보다 우선순위가 낮아 덮어쓰지 못하므로 명령행 인자로 넘깁니다.
+     */
+    private static String[] toArguments(String[] properties) {
+        return Arrays.stream(properties)
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+    }
+
+    private static String[] append(String[] properties, String... others) {
+        String[] result = Arrays.copyOf(properties, properties.length + others.length);
+        System.arraycopy(others, 0, result, properties.length, others.length);
+        return result;
+    }
+
+    public int getLocalPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * 내장 웹 서버에 요청을 보내고 응답 코드를 돌려줍니다. 연결을 재사용할 수 있도록 응답 본문은 끝까지 읽어 버립니다.
+     */
+    public int request(String method, String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + getLocalPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream output = connection.getOutputStream()) {
+                output.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (input != null) {
+                byte[] buffer = new byte[8192];
+                while (input.read(buffer) != -1) {
+                    // 본문은 쓰지 않습니다.
+                }
+            }
+        }
+        return status;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T inTransaction(Supplier<T> supplier) {
+        return transactionTemplate.execute(status -> supplier.get());
+    }
+
+    public List<Station> saveStations(String prefix, int count) {
+        StationRepository stationRepository = getBean(StationRepository.class);
+        return inTransaction(() -> {
+            List<Station> stations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stations.add(stationRepository.save(new Station(prefix + i)));
+            }
+            return stations;
+        });
+    }
+
+    public Long saveLine(String name, List<Station> stations) {
+        LineRepository lineRepository = getBean(LineRepository.class);
+        return inTransaction(() -> {
+            Line line = lineRepository.save(new Line(name, "bg-red-600"));
+            for (int i = 0; i < stations.size() - 1; i++) {
+                line.addSection(new Section(line, stations.get(i), stations.get(i + 1), SyntheticNetwork.DISTANCE));
+            }
+            return line.getId();
+        });
+    }
+
+    /**
+     * 저장소로 직접 적재한 데이터는 변경 이벤트가 없으므로, 메모리에 들고 있는 노선도를 다시 만들도록 알립니다.
+     */
+    public void publishNetworkChanged() {
+        context.publishEvent(new NetworkChangedEvent());
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
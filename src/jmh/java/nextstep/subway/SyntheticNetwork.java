@@ -0,0 +1,53 @@
+package nextstep.subway;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 노선도를 만듭니다.
+ * 구간은 등록 순서가 정렬 순서와 다르도록 섞어서 추가합니다.
+ */
+public class SyntheticNetwork {
+    public static final int DISTANCE = 10;
+    public static final int SECTIONS_PER_LINE = 100;
+
+    private static final long SEED = 20221018L;
+
+    private SyntheticNetwork() {
+    }
+
+    public static List<Line> lines(int sectionCount) {
+        List<Line> lines = new ArrayList<>();
+        long stationId = 1;
+        for (int remain = sectionCount; remain > 0; remain -= SECTIONS_PER_LINE) {
+            int count = Math.min(remain, SECTIONS_PER_LINE);
+            lines.add(line("노선" + (lines.size() + 1), stationId, count));
+            stationId += count + 1;
+        }
+        return lines;
+    }
+
+    public static Line line(String name, long firstStationId, int sectionCount) {
+        Line line = new Line(name, "bg-red-600");
+        sections(firstStationId, sectionCount).forEach(line::addSection);
+        return line;
+    }
+
+    public static List<Section> sections(long firstStationId, int sectionCount) {
+        List<Section> sections = new ArrayList<>(sectionCount);
+        Station upStation = new Station(firstStationId, "역" + firstStationId);
+        for (long id = firstStationId + 1; id <= firstStationId + sectionCount; id++) {
+            Station downStation = new Station(id, "역" + id);
+            sections.add(new Section(upStation, downStation, DISTANCE));
+            upStation = downStation;
+        }
+        Collections.shuffle(sections, new Random(SEED));
+        return sections;
+    }
+}
@@ -0,0 +1,87 @@
+package nextstep.subway.line;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.SyntheticNetwork;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.dto.LineResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 노선 조회 경로의 도메인/DTO 비용을 측정합니다.
+ * 구간 정렬, 응답 변환, 노선 목록 JSON 직렬화를 구간 수별로 비교합니다.
+ * 정렬 결과는 노선에 남으므로 정렬은 반복마다 정렬 전 노선을 {@value #ORDER_BATCH_SIZE}개 미리 만들어 두고
+ * 한 번에 잽니다. 정렬 점수는 {@value #ORDER_BATCH_SIZE}개 노선을 정렬하는 데 걸린 시간입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineBenchmark {
+    static final int ORDER_BATCH_SIZE = 20;
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private List<Section> shuffledSections;
+    private Line orderedLine;
+    private List<LineResponse> lineResponses;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        shuffledSections = SyntheticNetwork.sections(1L, sectionCount);
+        orderedLine = SyntheticNetwork.line("신분당선", 1L, sectionCount);
+        orderedLine.getSections().getOrderSections();
+
+        lineResponses = SyntheticNetwork.lines(sectionCount).stream()
+                .map(LineResponse::of)
+                .collect(Collectors.toList());
+        objectMapper = new ObjectMapper();
+    }
+
+    @State(Scope.Thread)
+    public static class UnorderedLines {
+        private Line[] lines;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(LineBenchmark benchmark) {
+            lines = new Line[ORDER_BATCH_SIZE];
+            for (int i = 0; i < ORDER_BATCH_SIZE; i++) {
+                lines[i] = new Line("신분당선", "bg-red-600");
+                benchmark.shuffledSections.forEach(lines[i]::addSection);
+            }
+            next = 0;
+        }
+
+        Line next() {
+            return lines[next++];
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = ORDER_BATCH_SIZE)
+    @Measurement(iterations = 20, batchSize = ORDER_BATCH_SIZE)
+    public List<Section> getOrderSections(UnorderedLines unorderedLines) {
+        return unorderedLines.next().getSections().getOrderSections();
+    }
+
+    @Benchmark
+    public LineResponse lineResponseOf() {
+        return LineResponse.of(orderedLine);
+    }
+
+    @Benchmark
+    public byte[] serializeLineResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lineResponses);
+    }
+}
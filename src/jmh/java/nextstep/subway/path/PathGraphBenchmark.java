@@ -0,0 +1,64 @@
+package nextstep.subway.path;
+
+import nextstep.subway.domain.PathEdge;
+import nextstep.subway.domain.PathGraph;
+import nextstep.subway.domain.ShortestPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자 형태의 가상 노선도에서 최단 경로 조회 비용을 측정합니다.
+ * 가로줄과 세로줄을 각각 하나의 노선으로 보고, 가장 먼 두 모서리 역 사이의 경로를 찾습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathGraphBenchmark {
+    @Param({"10", "100", "200"})
+    private int gridSize;
+
+    private PathGraph graph;
+    private long sourceStationId;
+    private long targetStationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(gridSize);
+        List<PathEdge> edges = new ArrayList<>();
+        for (int row = 0; row < gridSize; row++) {
+            for (int column = 0; column < gridSize; column++) {
+                long stationId = stationId(row, column);
+                if (column + 1 < gridSize) {
+                    edges.add(edge((long) row, stationId, stationId(row, column + 1), random));
+                }
+                if (row + 1 < gridSize) {
+                    edges.add(edge((long) gridSize + column, stationId, stationId(row + 1, column), random));
+                }
+            }
+        }
+        graph = PathGraph.of(edges);
+        sourceStationId = stationId(0, 0);
+        targetStationId = stationId(gridSize - 1, gridSize - 1);
+    }
+
+    @Benchmark
+    public Optional<ShortestPath> findShortestPath() {
+        return graph.findShortestPath(sourceStationId, targetStationId);
+    }
+
+    private long stationId(int row, int column) {
+        return (long) row * gridSize + column + 1;
+    }
+
+    private PathEdge edge(Long lineId, long upStationId, long downStationId, Random random) {
+        return new PathEdge(lineId, upStationId, "역" + upStationId, downStationId, "역" + downStationId, 1 + random.nextInt(10));
+    }
+}
@@ -0,0 +1,113 @@
+package nextstep.subway.section;
+
+import nextstep.subway.SubwayBenchmarkContext;
+import nextstep.subway.SyntheticNetwork;
+import nextstep.subway.application.LineService;
+import nextstep.subway.application.SectionService;
+import nextstep.subway.domain.Station;
+import nextstep.subway.dto.LineResponse;
+import nextstep.subway.dto.SectionRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간 추가/삭제 서비스 호출 비용을 측정합니다.
+ * 반복마다 서로 다른 구간 사이에 넣을 새로운 역 {@value #BATCH_SIZE}개를 한 번에 추가하거나 삭제하고,
+ * 노선을 원래 상태로 되돌리는 작업은 측정 밖에서 반복 단위로 합니다.
+ * 점수는 {@value #BATCH_SIZE}번 호출하는 데 걸린 시간입니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = SectionServiceBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = SectionServiceBenchmark.BATCH_SIZE)
+@Fork(1)
+public class SectionServiceBenchmark {
+    static final int BATCH_SIZE = 10;
+
+    @State(Scope.Benchmark)
+    public static class Network {
+        @Param({"10", "1000", "100000"})
+        private int sectionCount;
+
+        private SubwayBenchmarkContext context;
+        private LineService lineService;
+        private SectionService sectionService;
+        private Long lineId;
+        private final List<SectionRequest> addRequests = new ArrayList<>();
+        private final List<Long> newStationIds = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = SubwayBenchmarkContext.start();
+            lineService = context.getBean(LineService.class);
+            sectionService = context.getBean(SectionService.class);
+
+            List<Station> stations = context.saveStations("역", sectionCount + 1);
+            lineId = context.saveLine("신분당선", stations);
+
+            // 새로운 역마다 다른 구간을 나누도록 노선 전체에 고르게 흩어 둡니다.
+            int step = sectionCount / BATCH_SIZE;
+            for (Station newStation : context.saveStations("새로운역", BATCH_SIZE)) {
+                Station upStation = stations.get(newStationIds.size() * step);
+                addRequests.add(new SectionRequest(upStation.getId(), newStation.getId(), SyntheticNetwork.DISTANCE / 2));
+                newStationIds.add(newStation.getId());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+        LineResponse saveSection(int index) {
+            return sectionService.saveSection(lineId, addRequests.get(index));
+        }
+
+        void removeSection(int index) {
+            lineService.removeSectionByStationId(lineId, newStationIds.get(index));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AddBatch {
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(Network network) {
+            for (int i = 0; i < next; i++) {
+                network.removeSection(i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RemoveBatch {
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp(Network network) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                network.saveSection(i);
+            }
+            next = 0;
+        }
+    }
+
+    @Benchmark
+    public LineResponse saveSection(Network network, AddBatch batch) {
+        return network.saveSection(batch.next++);
+    }
+
+    @Benchmark
+    public void removeSectionByStationId(Network network, RemoveBatch batch) {
+        network.removeSection(batch.next++);
+    }
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.section;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노선 길이에 따른 구간 추가 비용을 측정합니다.
+ * indexBuilt=false 는 데이터베이스에서 막 불러온 노선에 처음 추가하는 경우로, saveSection 이 요청마다 치르는
+ * 역 인덱스 생성(구간 수에 비례) 비용이 포함됩니다. indexBuilt=true 는 인덱스가 이미 만들어진 노선에 다시 추가하는 경우로,
+ * 이때만 구간 수가 늘어나도 한 번의 추가 비용이 일정합니다.
+ * 같은 노선에는 같은 구간을 두 번 추가할 수 없으므로 반복마다 노선을 {@value #BATCH_SIZE}개 미리 만들어 두고,
+ * 각 노선에 한 번씩 추가하는 시간을 한 번에 잽니다. 점수는 {@value #BATCH_SIZE}번 추가하는 데 걸린 시간입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = SectionsInsertBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = SectionsInsertBenchmark.BATCH_SIZE)
+@Fork(1)
+public class SectionsInsertBenchmark {
+    static final int BATCH_SIZE = 100;
+    private static final int DISTANCE = 10;
+
+    @Param({"10", "1000", "5000"})
+    private int sectionCount;
+
+    @Param({"false", "true"})
+    private boolean indexBuilt;
+
+    private Station[] stations;
+    private Station middleStation;
+    private Station newStation;
+
+    private Line[] lines;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = new Station[sectionCount + 2];
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = new Station((long) i + 1, "역" + (i + 1));
+        }
+        middleStation = stations[sectionCount / 2];
+        newStation = new Station((long) sectionCount + 3, "새로운역");
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpLines() {
+        lines = new Line[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            lines[i] = line();
+        }
+        next = 0;
+    }
+
+    private Line line() {
+        Line line = new Line("신분당선", "bg-red-600");
+        for (int i = 0; i < sectionCount; i++) {
+            line.addSection(new Section(stations[i], stations[i + 1], DISTANCE));
+        }
+        if (indexBuilt) {
+            // 인덱스를 미리 만들어 두기 위해 하행 종점에 구간을 하나 추가합니다.
+            line.insertSection(new Section(stations[sectionCount], stations[sectionCount + 1], DISTANCE));
+        }
+        return line;
+    }
+
+    @Benchmark
+    public Line insertBetweenStations() {
+        Line line = lines[next++];
+        line.insertSection(new Section(middleStation, newStation, DISTANCE / 2));
+        return line;
+    }
+}
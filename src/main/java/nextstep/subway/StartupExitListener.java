@@ -0,0 +1,27 @@
+package nextstep.subway;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 요청을 받을 준비가 되면 JVM 시작부터 걸린 시간을 남기고 바로 종료합니다.
+ * AppCDS 클래스 목록을 만들거나 기동 시간을 잴 때만 켭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.startup.exit-on-ready", havingValue = "true")
+public class StartupExitListener implements ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger log = LoggerFactory.getLogger(StartupExitListener.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("startup_ms={}", ManagementFactory.getRuntimeMXBean().getUptime());
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -3,10 +3,10 @@ package nextstep.subway;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.retry.annotation.EnableRetry;
 
-@EnableJpaRepositories
 @EnableJpaAuditing
+@EnableRetry
 @SpringBootApplication
 public class SubwayApplication {
 
@@ -0,0 +1,112 @@
+package nextstep.subway.application;
+
+import nextstep.subway.domain.DistanceTable;
+import nextstep.subway.domain.PathGraph;
+import nextstep.subway.domain.PathGraphChangedEvent;
+import nextstep.subway.dto.DistanceResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.annotation.PreDestroy;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 모든 역 쌍 사이의 거리 표를 백그라운드에서 미리 계산해 두고 조회합니다.
+ * 경로 그래프가 바뀌면 다시 계산을 예약하며, 여러 번의 변경은 한 번의 계산으로 합쳐집니다.
+ * 표가 아직 없거나 현재 그래프보다 오래된 경우에는 경로 그래프에서 직접 거리를 구합니다.
+ */
+@Service
+public class DistanceTableService {
+    private static final Logger log = LoggerFactory.getLogger(DistanceTableService.class);
+
+    private final PathService pathService;
+    private final int maxComponentSize;
+    private final long maxTableBytes;
+    private final ForkJoinPool pool;
+    private final ExecutorService scheduler = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "distance-table");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+
+    private volatile DistanceTable table;
+
+    public DistanceTableService(PathService pathService,
+                                @Value("${subway.distance-table.parallelism:0}") int parallelism,
+                                @Value("${subway.distance-table.max-component-size:5000}") int maxComponentSize,
+                                @Value("${subway.distance-table.max-size:256MB}") DataSize maxTableSize) {
+        this.pathService = pathService;
+        this.maxComponentSize = maxComponentSize;
+        this.maxTableBytes = maxTableSize.toBytes();
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public DistanceResponse findDistance(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        PathGraph graph = pathService.currentGraph();
+        OptionalInt distance = lookup(graph, sourceStationId, targetStationId);
+        if (!distance.isPresent()) {
+            throw pathService.notConnected(graph, sourceStationId, targetStationId);
+        }
+        return new DistanceResponse(sourceStationId, targetStationId, distance.getAsInt());
+    }
+
+    private OptionalInt lookup(PathGraph graph, Long sourceStationId, Long targetStationId) {
+        DistanceTable current = table;
+        if (current != null && current.isBuiltFrom(graph) && current.covers(sourceStationId)) {
+            return current.distance(sourceStationId, targetStationId);
+        }
+        return graph.findShortestPath(sourceStationId, targetStationId)
+                .map(path -> OptionalInt.of(path.getDistance()))
+                .orElse(OptionalInt.empty());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRefresh();
+    }
+
+    @EventListener
+    public void onPathGraphChanged(PathGraphChangedEvent event) {
+        requestRefresh();
+    }
+
+    private void requestRefresh() {
+        if (refreshRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        refreshRequested.set(false);
+        try {
+            DistanceTable previous = table;
+            long startedAt = System.nanoTime();
+            DistanceTable refreshed = DistanceTable.of(pathService.currentGraph(), previous, pool, maxComponentSize, maxTableBytes);
+            table = refreshed;
+            log.info("거리 표 갱신 완료: 연결 요소 {}개 중 {}개 재사용, {}ms",
+                    refreshed.componentCount(), refreshed.reusedComponentCount(previous), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("거리 표 갱신 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+}
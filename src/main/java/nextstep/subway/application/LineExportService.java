@@ -0,0 +1,58 @@
+package nextstep.subway.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.LineSectionRow;
+import nextstep.subway.dto.LineRowAssembler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 노선도를 한 번에 메모리에 올리지 않고 노선 단위로 읽어 JSON 배열로 내보냅니다.
+ * 엔티티 대신 필요한 컬럼만 행으로 읽으므로 노선도가 커져도 영속성 컨텍스트에 쌓이는 것이 없고,
+ * 한 노선의 행을 다 읽으면 엔티티를 만들지 않고 그 노선만 응답으로 바꿔 씁니다.
+ */
+@Service
+public class LineExportService {
+    private final LineRepository lineRepository;
+    private final ObjectMapper objectMapper;
+
+    public LineExportService(LineRepository lineRepository, ObjectMapper objectMapper) {
+        this.lineRepository = lineRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportLines(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.writeStartArray();
+        try (Stream<LineSectionRow> rows = lineRepository.streamAllSectionRows()) {
+            Iterator<LineSectionRow> iterator = rows.iterator();
+            LineRowAssembler line = null;
+            while (iterator.hasNext()) {
+                LineSectionRow row = iterator.next();
+                if (line != null && line.isSameLine(row)) {
+                    line.add(row);
+                    continue;
+                }
+                writeLine(generator, line);
+                line = new LineRowAssembler(row);
+            }
+            writeLine(generator, line);
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private void writeLine(JsonGenerator generator, LineRowAssembler line) throws IOException {
+        if (line != null) {
+            generator.writeObject(line.toResponse());
+        }
+    }
+}
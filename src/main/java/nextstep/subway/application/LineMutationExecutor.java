@@ -0,0 +1,147 @@
+package nextstep.subway.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 노선의 구간 변경을 노선 id 로 고른 줄(stripe)마다 하나씩 차례대로 실행합니다.
+ * 다른 줄에 배정된 노선의 변경은 서로 기다리지 않고 동시에 실행됩니다.
+ * 줄마다 대기하거나 실행 중인 작업은 subway.line-mutation.queue-capacity 개까지만 받고, 넘치면 {@link TaskRejectedException}을 던집니다.
+ * 줄마다 대기 중인 작업 수와 작업이 실행되기까지 기다린 시간을 지표로 남깁니다.
+ */
+@Component
+public class LineMutationExecutor {
+    private static final String STRIPE_TAG = "stripe";
+
+    private final Stripe[] stripes;
+
+    public LineMutationExecutor(MeterRegistry meterRegistry,
+                                @Value("${subway.line-mutation.stripes:0}") int stripeCount,
+                                @Value("${subway.line-mutation.queue-capacity:100}") int queueCapacity) {
+        int count = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors() * 2;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(i, queueCapacity, meterRegistry);
+        }
+    }
+
+    /**
+     * 호출한 스레드에서 작업을 실행합니다. 다른 스레드로 넘기고 기다리지 않으며, 같은 줄의 앞선 작업이 끝날 때만 기다립니다.
+     */
+    public <T> T execute(Long lineId, Supplier<T> task) {
+        return stripeOf(lineId).execute(task);
+    }
+
+    public void execute(Long lineId, Runnable task) {
+        execute(lineId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 줄의 작업 스레드에 작업을 맡기고 바로 돌아옵니다.
+     */
+    public <T> CompletableFuture<T> submit(Long lineId, Supplier<T> task) {
+        return stripeOf(lineId).submit(task);
+    }
+
+    private Stripe stripeOf(Long lineId) {
+        int hash = Long.hashCode(lineId);
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Stripe stripe : stripes) {
+            stripe.executor.shutdown();
+        }
+    }
+
+    /**
+     * 호출한 스레드에서 실행하는 작업과 작업 스레드에 맡긴 작업이 같은 잠금을 잡으므로 한 줄의 작업은 항상 하나씩 실행됩니다.
+     * 받을 수 있는 작업 수는 두 경로가 함께 씁니다.
+     */
+    private static class Stripe {
+        private final int capacity;
+        private final Semaphore permits;
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final ThreadPoolExecutor executor;
+        private final Timer waitTimer;
+
+        Stripe(int index, int capacity, MeterRegistry meterRegistry) {
+            this.capacity = capacity;
+            this.permits = new Semaphore(capacity);
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "line-mutation-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+            String stripe = String.valueOf(index);
+            this.waitTimer = Timer.builder("subway.line.mutation.wait")
+                    .description("구간 변경 작업이 실행되기까지 대기한 시간")
+                    .tag(STRIPE_TAG, stripe)
+                    .register(meterRegistry);
+            Gauge.builder("subway.line.mutation.queue", this, Stripe::pending)
+                    .description("실행을 기다리거나 실행 중인 구간 변경 작업 수")
+                    .tag(STRIPE_TAG, stripe)
+                    .register(meterRegistry);
+        }
+
+        <T> T execute(Supplier<T> task) {
+            acquire();
+            try {
+                return runLocked(System.nanoTime(), task);
+            } finally {
+                permits.release();
+            }
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<T> task) {
+            acquire();
+            long submittedAt = System.nanoTime();
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return runLocked(submittedAt, task);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw new TaskRejectedException("구간 변경 작업 스레드가 종료되었습니다.", e);
+            }
+        }
+
+        private void acquire() {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException("노선 구간 변경 대기열이 가득 찼습니다.");
+            }
+        }
+
+        private <T> T runLocked(long submittedAt, Supplier<T> task) {
+            lock.lock();
+            try {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int pending() {
+            return capacity - permits.availablePermits();
+        }
+    }
+}
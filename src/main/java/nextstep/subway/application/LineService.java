@@ -1,29 +1,32 @@
 package nextstep.subway.application;
 
 import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineChangedEvent;
 import nextstep.subway.domain.LineRepository;
 import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Station;
 import nextstep.subway.dto.LineRequest;
 import nextstep.subway.dto.LineResponse;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class LineService {
     private final LineRepository lineRepository;
     private final StationService stationService;
-    private final SectionService sectionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineRepository lineRepository, StationService stationService, SectionService sectionService) {
+    public LineService(LineRepository lineRepository, StationService stationService, ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
-        this.sectionService = sectionService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,30 +37,17 @@ public class LineService {
         Line persistLine = lineRepository.save(new Line(lineRequest.getName(), lineRequest.getColor()));
 
         persistLine.addSection(new Section(persistLine, upStation, downStation, lineRequest.getDistance()));
+        eventPublisher.publishEvent(new LineChangedEvent(persistLine.getId()));
 
         return LineResponse.of(persistLine);
     }
 
-    @Transactional(readOnly = true)
-    public List<LineResponse> findAllLines() {
-        List<Line> lines = lineRepository.findAll();
-
-        return lines.stream()
-                .map(LineResponse::of)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public LineResponse findLineById(Long id) {
-        Line line = findById(id);
-        return LineResponse.of(line);
-    }
-
     @Transactional
     public void modifyLine(Long id, LineRequest lineRequest) {
         Line line = findById(id);
         line.modifyName(lineRequest.getName());
         line.modifyColor(lineRequest.getColor());
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
     @Transactional(readOnly = true)
@@ -68,31 +58,19 @@ public class LineService {
     @Transactional
     public void deleteLineById(Long id) {
         lineRepository.deleteById(id);
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
+    @Retryable(value = OptimisticLockingFailureException.class, maxAttempts = 10, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Timed("subway.section.remove")
     @Transactional
     public void removeSectionByStationId(Long lineId, Long stationId) {
-        Line line = findByIdWithSections(lineId);
-        if (line.getSections().size() == 1) {
-            throw new IllegalArgumentException("단일 구간인 노선입니다. 구간을 삭제할 수 없습니다.");
-        }
-
-        Optional<Section> prevSection = sectionService.findByDownStationId(stationId);
-        Optional<Section> nextSection = sectionService.findByUpStationId(stationId);
-
-        removeSection(line, prevSection);
-        removeSection(line, nextSection);
-
-        if (prevSection.isPresent() && nextSection.isPresent()) {
-            line.addSection(sectionService.reappropriateSection(prevSection.get(), nextSection.get()));
-        }
-    }
-
-    private void removeSection(Line line, Optional<Section> prevSection) {
-        prevSection.ifPresent(section -> line.getSections().removeSection(section));
+        Line line = findByIdWithSectionsForUpdate(lineId);
+        line.removeStation(stationId);
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
     }
 
-    private Line findByIdWithSections(Long id) {
-        return lineRepository.findByIdWithSections(id).orElseThrow(() -> new NoSuchElementException("해당 지하철 노선을 찾을 수 없습니다."));
+    private Line findByIdWithSectionsForUpdate(Long id) {
+        return lineRepository.findByIdWithSectionsForUpdate(id).orElseThrow(() -> new NoSuchElementException("해당 지하철 노선을 찾을 수 없습니다."));
     }
 }
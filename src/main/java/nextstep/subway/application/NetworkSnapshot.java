@@ -0,0 +1,251 @@
+package nextstep.subway.application;
+
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.TableVersion;
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.CursorResponse;
+import nextstep.subway.dto.EncodedResponse;
+import nextstep.subway.dto.StationResponse;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 조회 요청에 그대로 내려줄 노선과 지하철역 응답을 id 순으로 들고 있는 불변 스냅샷입니다.
+ * 노선은 직렬화를 마친 JSON 본문으로 들고 있습니다.
+ * 변경은 바뀐 항목만 교체한 새 스냅샷을 만들어 반영하므로 읽는 쪽은 잠금 없이 참조할 수 있습니다.
+ * 항목마다 읽을 때의 버전을 함께 들고 있어, 늦게 도착한 오래된 변경이 더 새로운 항목을 덮어쓰지 않습니다.
+ * 삭제된 항목은 버전만 {@link #DELETED}로 남겨 삭제 전에 읽은 변경이 항목을 되살리지 못하게 합니다.
+ * 노선 목록과 지하철역 목록의 마지막 수정 시간은 항목의 가장 늦은 수정 시간이고, 항목이 빠지면 빠진 것을 반영한 시각으로 올립니다.
+ * 목록 조회의 Last-Modified 가 되므로 뒤로 가지 않습니다.
+ */
+final class NetworkSnapshot {
+    static final long DELETED = Long.MAX_VALUE;
+    private static final long UNKNOWN = -1;
+    static final NetworkSnapshot EMPTY = of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), UNKNOWN);
+
+    private static final long ABSENT = -1;
+    private static final long STATION_VERSION = 0;
+
+    private final IdIndex<EncodedResponse> lines;
+    private final IdIndex<Long> lineVersions;
+    private final IdIndex<StationResponse> stations;
+    private final IdIndex<Long> stationVersions;
+    private final long linesLastModified;
+    private final long stationsLastModified;
+
+    private NetworkSnapshot(IdIndex<EncodedResponse> lines, IdIndex<Long> lineVersions,
+                            IdIndex<StationResponse> stations, IdIndex<Long> stationVersions,
+                            long linesLastModified, long stationsLastModified) {
+        this.lines = lines;
+        this.lineVersions = lineVersions;
+        this.stations = stations;
+        this.stationVersions = stationVersions;
+        this.linesLastModified = linesLastModified;
+        this.stationsLastModified = stationsLastModified;
+    }
+
+    /**
+     * 지하철역은 수정되지 않으므로 있으면 버전 0, 삭제되면 {@link #DELETED}로 둡니다.
+     */
+    static NetworkSnapshot of(Map<Long, EncodedResponse> lines, Map<Long, Long> lineVersions, Map<Long, StationResponse> stations,
+                              long stationsLastModified) {
+        Map<Long, Long> stationVersions = new HashMap<>(stations.size() * 2);
+        stations.keySet().forEach(id -> stationVersions.put(id, STATION_VERSION));
+        long linesLastModified = lines.values().stream().mapToLong(EncodedResponse::getLastModified).max().orElse(UNKNOWN);
+        return new NetworkSnapshot(IdIndex.of(lines), IdIndex.of(lineVersions), IdIndex.of(stations), IdIndex.of(stationVersions),
+                linesLastModified, stationsLastModified);
+    }
+
+    Optional<EncodedResponse> findLine(long lineId) {
+        return lines.find(lineId);
+    }
+
+    CursorResponse<EncodedResponse> findLines(CursorRequest request) {
+        return lines.page(request).withLastModified(linesLastModified);
+    }
+
+    CursorResponse<StationResponse> findStations(CursorRequest request) {
+        return stations.page(request).withLastModified(stationsLastModified);
+    }
+
+    int lineCount() {
+        return lines.size();
+    }
+
+    int stationCount() {
+        return stations.size();
+    }
+
+    /**
+     * 데이터베이스의 {@link LineRepository#findTableVersion()}과 같은 방식으로 삭제되지 않은 노선의 버전을 요약합니다.
+     */
+    TableVersion lineTableVersion() {
+        long[] summary = new long[3];
+        lineVersions.forEach((id, version) -> {
+            if (version != DELETED) {
+                summary[0]++;
+                summary[1] = Math.max(summary[1], id);
+                summary[2] += version;
+            }
+        });
+        return new TableVersion(summary[0], summary[1], summary[2]);
+    }
+
+    TableVersion stationTableVersion() {
+        return new TableVersion(stations.size(), stations.maxId(), 0);
+    }
+
+    /**
+     * line 이 null 이면 노선을 제거합니다. 스냅샷에 같거나 더 새로운 버전이 있으면 그대로 둡니다.
+     */
+    NetworkSnapshot withLine(long lineId, EncodedResponse line, long version) {
+        long newVersion = line == null ? DELETED : version;
+        if (lineVersions.find(lineId).orElse(ABSENT) >= newVersion) {
+            return this;
+        }
+        long lastModified = Math.max(linesLastModified, line == null ? System.currentTimeMillis() : line.getLastModified());
+        return new NetworkSnapshot(lines.with(Collections.singletonMap(lineId, line)),
+                lineVersions.with(Collections.singletonMap(lineId, newVersion)), stations, stationVersions,
+                lastModified, stationsLastModified);
+    }
+
+    /**
+     * 값이 null 인 지하철역은 스냅샷에서 제거합니다. 이미 삭제된 지하철역은 되살리지 않습니다.
+     * lastModified 는 바뀐 지하철역 중 가장 늦은 수정 시간입니다.
+     */
+    NetworkSnapshot withStations(Map<Long, StationResponse> changedStations, long lastModified) {
+        Map<Long, StationResponse> applied = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        changedStations.forEach((id, station) -> {
+            long newVersion = station == null ? DELETED : STATION_VERSION;
+            if (stationVersions.find(id).orElse(ABSENT) < newVersion) {
+                applied.put(id, station);
+                versions.put(id, newVersion);
+            }
+        });
+        if (applied.isEmpty()) {
+            return this;
+        }
+        long stationsModified = Math.max(stationsLastModified,
+                applied.containsValue(null) ? System.currentTimeMillis() : lastModified);
+        return new NetworkSnapshot(lines, lineVersions, stations.with(applied), stationVersions.with(versions),
+                linesLastModified, stationsModified);
+    }
+
+    /**
+     * 전체를 다시 읽은 스냅샷에, 다시 읽기 시작한 뒤(started 이후) current 에 반영된 더 새로운 변경만 덧붙입니다.
+     * 다시 읽기 전부터 있던 항목과 삭제 기록은 다시 읽은 내용으로 모두 바뀝니다.
+     * 다른 인스턴스가 지운 항목은 수정 시간으로 알 수 없으므로 current 에 있던 항목이 빠졌으면 지금 시각을 마지막 수정 시간으로 씁니다.
+     */
+    NetworkSnapshot withChangesSince(NetworkSnapshot started, NetworkSnapshot current) {
+        Map<Long, EncodedResponse> newerLines = new HashMap<>();
+        Map<Long, Long> newerLineVersions = new HashMap<>();
+        current.lineVersions.forEach((id, version) -> {
+            if (version > started.lineVersions.find(id).orElse(ABSENT) && version > lineVersions.find(id).orElse(ABSENT)) {
+                newerLines.put(id, current.lines.find(id).orElse(null));
+                newerLineVersions.put(id, version);
+            }
+        });
+        Map<Long, StationResponse> newerStations = new HashMap<>();
+        Map<Long, Long> newerStationVersions = new HashMap<>();
+        current.stationVersions.forEach((id, version) -> {
+            if (version > started.stationVersions.find(id).orElse(ABSENT) && version > stationVersions.find(id).orElse(ABSENT)) {
+                newerStations.put(id, current.stations.find(id).orElse(null));
+                newerStationVersions.put(id, version);
+            }
+        });
+        IdIndex<EncodedResponse> mergedLines = lines.with(newerLines);
+        IdIndex<StationResponse> mergedStations = stations.with(newerStations);
+        return new NetworkSnapshot(mergedLines, lineVersions.with(newerLineVersions),
+                mergedStations, stationVersions.with(newerStationVersions),
+                lastModifiedAfter(current.lines, mergedLines, Math.max(linesLastModified, current.linesLastModified)),
+                lastModifiedAfter(current.stations, mergedStations, Math.max(stationsLastModified, current.stationsLastModified)));
+    }
+
+    private static long lastModifiedAfter(IdIndex<?> before, IdIndex<?> after, long lastModified) {
+        boolean[] removed = new boolean[1];
+        before.forEach((id, item) -> removed[0] |= !after.find(id).isPresent());
+        return removed[0] ? Math.max(lastModified, System.currentTimeMillis()) : lastModified;
+    }
+
+    private static final class IdIndex<T> {
+        private final long[] ids;
+        private final List<T> items;
+
+        private IdIndex(long[] ids, List<T> items) {
+            this.ids = ids;
+            this.items = items;
+        }
+
+        static <T> IdIndex<T> of(Map<Long, T> items) {
+            long[] ids = items.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            List<T> sorted = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                sorted.add(items.get(id));
+            }
+            return new IdIndex<>(ids, Collections.unmodifiableList(sorted));
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long maxId() {
+            return ids.length == 0 ? 0 : ids[ids.length - 1];
+        }
+
+        void forEach(BiConsumer<Long, T> action) {
+            for (int i = 0; i < ids.length; i++) {
+                action.accept(ids[i], items.get(i));
+            }
+        }
+
+        Optional<T> find(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index < 0 ? Optional.empty() : Optional.of(items.get(index));
+        }
+
+        CursorResponse<T> page(CursorRequest request) {
+            if (request.isUnpaged()) {
+                return new CursorResponse<>(items, null);
+            }
+            int index = Arrays.binarySearch(ids, request.getAfter());
+            int from = index < 0 ? -index - 1 : index + 1;
+            int to = Math.min(from + request.getLimit(), ids.length);
+            if (from >= to) {
+                return new CursorResponse<>(Collections.emptyList(), null);
+            }
+            Long nextCursor = to < ids.length ? ids[to - 1] : null;
+            return new CursorResponse<>(items.subList(from, to), nextCursor);
+        }
+
+        IdIndex<T> with(Map<Long, T> changes) {
+            long[] changedIds = changes.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] mergedIds = new long[ids.length + changedIds.length];
+            List<T> mergedItems = new ArrayList<>(mergedIds.length);
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < ids.length || j < changedIds.length) {
+                long id;
+                T item;
+                if (j == changedIds.length || (i < ids.length && ids[i] < changedIds[j])) {
+                    id = ids[i];
+                    item = items.get(i++);
+                } else {
+                    id = changedIds[j++];
+                    item = changes.get(id);
+                    if (i < ids.length && ids[i] == id) {
+                        i++;
+                    }
+                }
+                if (item != null) {
+                    mergedIds[size++] = id;
+                    mergedItems.add(item);
+                }
+            }
+            return new IdIndex<>(Arrays.copyOf(mergedIds, size), Collections.unmodifiableList(mergedItems));
+        }
+    }
+}
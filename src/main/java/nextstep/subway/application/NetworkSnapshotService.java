@@ -0,0 +1,284 @@
+package nextstep.subway.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import nextstep.subway.domain.*;
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.CursorResponse;
+import nextstep.subway.dto.EncodedResponse;
+import nextstep.subway.dto.LineResponse;
+import nextstep.subway.dto.StationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 노선, 지하철역 조회를 메모리의 {@link NetworkSnapshot}으로 응답합니다.
+ * 변경이 커밋되면 바뀐 노선이나 역만 다시 읽어 새 스냅샷으로 교체하고, 조회는 데이터베이스를 거치지 않습니다.
+ * 노선 응답은 교체할 때 한 번만 직렬화하고 조회 때는 만들어 둔 본문을 그대로 씁니다.
+ * 지연 초기화를 켜더라도 첫 조회 전에 스냅샷이 만들어져 있어야 하므로 항상 기동 시점에 생성합니다.
+ * 스냅샷은 애플리케이션 인스턴스마다 따로 들고 있고 변경 이벤트도 같은 JVM 안에서만 전달되므로,
+ * subway.snapshot.resync-interval 마다 노선과 역 테이블의 행 수, 가장 큰 id, 노선 버전 합계를 스냅샷과 비교합니다.
+ * 다른 인스턴스가 바꾼 내용이 있으면 {@link NetworkChangedEvent}를 발행해 노선도를 들고 있는 곳이 모두 다시 읽게 하므로,
+ * 오래된 내용을 보여 주는 시간은 이 주기를 넘지 않습니다.
+ * 커밋 뒤 갱신이 실패해도 이미 커밋된 쓰기 요청은 실패로 응답하지 않고, 전체를 다시 읽도록 별도 스레드에 예약합니다.
+ * <p>
+ * 이 스냅샷은 노선 id 별로 노선 응답을 담던 Caffeine "lines" 캐시와 커밋 뒤 항목을 지우던 LineCacheEvictor 를 대신합니다.
+ * 모든 노선을 들고 버전으로 항목을 바꿔 끼우므로 크기와 TTL 제한이 없고, 지우는 항목이 없으니 제거 횟수도 세지 않습니다.
+ * 조회 적중과 실패는 subway.snapshot.lookups 로 계속 세고, TTL 이 맡던 오래된 항목의 상한은 동기화 주기가 맡습니다.
+ * 커밋 뒤 변경 이벤트({@link LineChangedEvent})로 갱신하는 방식은 그대로 이어받았습니다.
+ */
+@Service
+@Lazy(false)
+public class NetworkSnapshotService implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(NetworkSnapshotService.class);
+    private static final String TYPE_TAG = "type";
+
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration resyncInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "network-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>(NetworkSnapshot.EMPTY);
+
+    private final Counter lineHits;
+    private final Counter lineMisses;
+    private final Timer lineRefreshTimer;
+    private final Timer stationRefreshTimer;
+    private final Timer rebuildTimer;
+    private final Timer orderTimer;
+    private final Counter refreshFailures;
+
+    public NetworkSnapshotService(LineRepository lineRepository, StationRepository stationRepository, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${subway.snapshot.resync-interval:30s}") Duration resyncInterval) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.resyncInterval = resyncInterval;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.lineHits = lookupCounter(meterRegistry, "hit");
+        this.lineMisses = lookupCounter(meterRegistry, "miss");
+        this.lineRefreshTimer = refreshTimer(meterRegistry, "line");
+        this.stationRefreshTimer = refreshTimer(meterRegistry, "station");
+        this.rebuildTimer = refreshTimer(meterRegistry, "network");
+        this.orderTimer = Timer.builder("subway.sections.order")
+                .description("노선의 구간을 상행역부터 하행역 순서로 정렬하는 시간")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("subway.snapshot.refresh.failures")
+                .description("커밋 뒤 스냅샷 갱신에 실패해 전체를 다시 읽도록 예약한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("subway.snapshot.size", snapshot, reference -> reference.get().lineCount())
+                .description("스냅샷에 들어 있는 항목 수")
+                .tag(TYPE_TAG, "line")
+                .register(meterRegistry);
+        Gauge.builder("subway.snapshot.size", snapshot, reference -> reference.get().stationCount())
+                .description("스냅샷에 들어 있는 항목 수")
+                .tag(TYPE_TAG, "station")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("subway.snapshot.lookups")
+                .description("스냅샷에서 노선을 id 로 찾은 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("subway.snapshot.refresh")
+                .description("변경을 다시 읽어 스냅샷을 교체하는 데 걸린 시간")
+                .tag(TYPE_TAG, type)
+                .register(meterRegistry);
+    }
+
+    public EncodedResponse findLineById(Long id) {
+        Optional<EncodedResponse> line = snapshot.get().findLine(id);
+        (line.isPresent() ? lineHits : lineMisses).increment();
+        return line.orElseThrow(() -> new NoSuchElementException("해당 지하철 노선을 찾을 수 없습니다."));
+    }
+
+    public CursorResponse<EncodedResponse> findLines(CursorRequest cursorRequest) {
+        return snapshot.get().findLines(cursorRequest);
+    }
+
+    public CursorResponse<StationResponse> findStations(CursorRequest cursorRequest) {
+        return snapshot.get().findStations(cursorRequest);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildTimer.record(this::rebuild);
+        if (!resyncInterval.isZero() && !resyncInterval.isNegative()) {
+            long interval = resyncInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::resync, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 커밋이 끝난 뒤에 호출되므로 바뀐 노선은 새 트랜잭션에서 읽습니다.
+     * 서로 다른 노선의 변경은 잠금 없이 동시에 읽고, 스냅샷 교체만 compare-and-set 으로 합니다.
+     * 같은 노선을 늦게 읽은 쪽이 먼저 반영되더라도 노선 버전을 비교하므로 오래된 노선이 새 노선을 덮어쓰지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        refresh(lineRefreshTimer, () -> {
+            Long lineId = event.getLineId();
+            UnaryOperator<NetworkSnapshot> change = transactionTemplate.execute(status -> lineRepository.findByIdWithSections(lineId)
+                    .map(this::lineChange)
+                    .orElse(current -> current.withLine(lineId, null, NetworkSnapshot.DELETED)));
+            snapshot.updateAndGet(change);
+        });
+    }
+
+    private UnaryOperator<NetworkSnapshot> lineChange(Line line) {
+        EncodedResponse encoded = encode(line);
+        long version = line.getVersion();
+        return current -> current.withLine(line.getId(), encoded, version);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        refresh(stationRefreshTimer, () -> {
+            Map<Long, StationResponse> stations = new HashMap<>();
+            event.getStationIds().forEach(id -> stations.put(id, null));
+            List<Station> found = transactionTemplate.execute(status -> stationRepository.findAllById(event.getStationIds()));
+            found.forEach(station -> stations.put(station.getId(), StationResponse.of(station)));
+            long lastModified = lastModifiedOf(found);
+            snapshot.updateAndGet(current -> current.withStations(stations, lastModified));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        refresh(rebuildTimer, this::rebuild);
+    }
+
+    private void refresh(Timer timer, Runnable refresh) {
+        try {
+            timer.record(refresh);
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("스냅샷 갱신 실패, 전체를 다시 읽도록 예약합니다.", e);
+            requestRebuild();
+        }
+    }
+
+    /**
+     * 여러 번 실패해도 한 번의 전체 읽기로 합칩니다. 예약한 읽기마저 실패하면 다음 동기화 확인에서 다시 시도합니다.
+     */
+    private void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                rebuildRequested.set(false);
+                try {
+                    rebuildTimer.record(this::rebuild);
+                } catch (RuntimeException e) {
+                    log.warn("스냅샷 전체 읽기 실패", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 데이터베이스와 스냅샷의 노선, 역 테이블 요약이 다르면 노선도 전체가 바뀐 것으로 보고 다시 읽게 합니다.
+     * 이 인스턴스의 커밋 직후 갱신이 반영되기 전에 확인하면 한 번 더 읽을 뿐 결과는 같습니다.
+     */
+    public void resync() {
+        try {
+            NetworkSnapshot current = snapshot.get();
+            Boolean changed = transactionTemplate.execute(status ->
+                    !lineRepository.findTableVersion().equals(current.lineTableVersion())
+                            || !stationRepository.findTableVersion().equals(current.stationTableVersion()));
+            if (Boolean.TRUE.equals(changed)) {
+                log.info("데이터베이스와 스냅샷이 달라 노선도 전체를 다시 읽습니다.");
+                eventPublisher.publishEvent(new NetworkChangedEvent());
+            }
+        } catch (RuntimeException e) {
+            log.warn("스냅샷 동기화 확인 실패", e);
+        }
+    }
+
+    private void rebuild() {
+        NetworkSnapshot started = snapshot.get();
+        NetworkSnapshot rebuilt = transactionTemplate.execute(status -> {
+            List<Line> lines = lineRepository.findAllWithSections();
+            List<Station> stations = stationRepository.findAllFromDatabase();
+            return NetworkSnapshot.of(
+                    lines.stream().collect(Collectors.toMap(Line::getId, this::encode)),
+                    lines.stream().collect(Collectors.toMap(Line::getId, Line::getVersion)),
+                    stations.stream().collect(Collectors.toMap(Station::getId, StationResponse::of)),
+                    lastModifiedOf(stations));
+        });
+        snapshot.updateAndGet(current -> rebuilt.withChangesSince(started, current));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 새로 읽은 노선은 구간 순서가 아직 계산되지 않았으므로 정렬 시간을 따로 잰 뒤 응답을 만듭니다.
+     */
+    private EncodedResponse encode(Line line) {
+        orderTimer.record(() -> line.getSections().getOrderSections());
+        try {
+            return EncodedResponse.of(objectMapper.writeValueAsBytes(LineResponse.of(line)), lastModifiedOf(line));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("지하철 노선 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private long lastModifiedOf(List<? extends BaseEntity> entities) {
+        return entities.stream().mapToLong(this::lastModifiedOf).max().orElse(-1);
+    }
+
+    private long lastModifiedOf(BaseEntity entity) {
+        if (entity.getModifiedDate() == null) {
+            return -1;
+        }
+        return entity.getModifiedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
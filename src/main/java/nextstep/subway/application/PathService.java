@@ -0,0 +1,111 @@
+package nextstep.subway.application;
+
+import nextstep.subway.domain.LineChangedEvent;
+import nextstep.subway.domain.NetworkChangedEvent;
+import nextstep.subway.domain.PathEdge;
+import nextstep.subway.domain.PathGraph;
+import nextstep.subway.domain.PathGraphChangedEvent;
+import nextstep.subway.domain.SectionRepository;
+import nextstep.subway.dto.PathResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 구간으로 만든 경로 그래프를 메모리에 들고 최단 경로를 조회합니다.
+ * 구간이 바뀐 노선은 표시만 해 두었다가 다음 조회 때 그 노선의 구간만 다시 읽어 그래프를 갱신합니다.
+ */
+@Service
+public class PathService {
+    private final SectionRepository sectionRepository;
+    private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<Long> changedLineIds = ConcurrentHashMap.newKeySet();
+    private Map<Long, List<PathEdge>> edgesByLine;
+    private volatile PathGraph graph;
+
+    public PathService(SectionRepository sectionRepository, StationService stationService, ApplicationEventPublisher eventPublisher) {
+        this.sectionRepository = sectionRepository;
+        this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public PathResponse findShortestPath(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        PathGraph pathGraph = currentGraph();
+        return pathGraph.findShortestPath(sourceStationId, targetStationId)
+                .map(PathResponse::of)
+                .orElseThrow(() -> notConnected(pathGraph, sourceStationId, targetStationId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        changedLineIds.add(event.getLineId());
+        eventPublisher.publishEvent(new PathGraphChangedEvent());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onNetworkChanged(NetworkChangedEvent event) {
+        changedLineIds.clear();
+        edgesByLine = null;
+        graph = null;
+        eventPublisher.publishEvent(new PathGraphChangedEvent());
+    }
+
+    PathGraph currentGraph() {
+        PathGraph current = graph;
+        if (current != null && changedLineIds.isEmpty()) {
+            return current;
+        }
+        return refreshGraph();
+    }
+
+    private synchronized PathGraph refreshGraph() {
+        if (edgesByLine == null) {
+            changedLineIds.clear();
+            edgesByLine = sectionRepository.findAllPathEdges().stream()
+                    .collect(Collectors.groupingBy(PathEdge::getLineId, HashMap::new, Collectors.toList()));
+        } else if (!changedLineIds.isEmpty()) {
+            reloadChangedLines();
+        } else if (graph != null) {
+            return graph;
+        }
+
+        graph = PathGraph.of(edgesByLine.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList()));
+        return graph;
+    }
+
+    private void reloadChangedLines() {
+        Iterator<Long> iterator = changedLineIds.iterator();
+        while (iterator.hasNext()) {
+            Long lineId = iterator.next();
+            iterator.remove();
+            List<PathEdge> edges = sectionRepository.findPathEdgesByLineId(lineId);
+            if (edges.isEmpty()) {
+                edgesByLine.remove(lineId);
+            } else {
+                edgesByLine.put(lineId, edges);
+            }
+        }
+    }
+
+    RuntimeException notConnected(PathGraph pathGraph, Long sourceStationId, Long targetStationId) {
+        if (!pathGraph.containsStation(sourceStationId)) {
+            stationService.findById(sourceStationId);
+        }
+        if (!pathGraph.containsStation(targetStationId)) {
+            stationService.findById(targetStationId);
+        }
+        return new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+}
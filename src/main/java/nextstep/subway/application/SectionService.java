@@ -3,19 +3,32 @@ package nextstep.subway.application;
 import nextstep.subway.domain.*;
 import nextstep.subway.dto.LineResponse;
 import nextstep.subway.dto.SectionRequest;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
 
+/**
+ * 구간 변경은 노선 버전으로 동시 변경을 감지하고, 충돌하면 노선을 새로 읽어 다시 시도합니다.
+ */
 @Service
 public class SectionService {
     private final SectionRepository sectionRepository;
+    private final LineRepository lineRepository;
     private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SectionService(SectionRepository sectionRepository, StationService stationService) {
+    public SectionService(SectionRepository sectionRepository, LineRepository lineRepository, StationService stationService,
+                          ApplicationEventPublisher eventPublisher) {
         this.sectionRepository = sectionRepository;
+        this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -23,44 +36,43 @@ public class SectionService {
         return sectionRepository.findById(id);
     }
 
+    @Retryable(value = OptimisticLockingFailureException.class, maxAttempts = 10, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Timed("subway.section.save")
     @Transactional
-    public LineResponse saveSection(Line line, SectionRequest sectionRequest) {
+    public LineResponse saveSection(Long lineId, SectionRequest sectionRequest) {
+        Line line = findLineWithSections(lineId);
         Station upStation = stationService.findById(sectionRequest.getUpStationId());
         Station downStation = stationService.findById(sectionRequest.getDownStationId());
 
-        Sections sections = line.getSections();
-        Section section = new Section(upStation, downStation, sectionRequest.getDistance());
-
-        for (Section lineSection : sections.getSections()) {
-            validateSections(lineSection, section);
-            reregisterStations(lineSection, section);
-        }
-
-        line.addSection(section);
+        line.insertSection(new Section(upStation, downStation, sectionRequest.getDistance()));
+        eventPublisher.publishEvent(new LineChangedEvent(line.getId()));
 
         return LineResponse.of(line);
     }
 
+    @Retryable(value = OptimisticLockingFailureException.class, maxAttempts = 10, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Timed("subway.section.save.batch")
     @Transactional
-    public Section reappropriateSection(Section prevSection, Section nextSection) {
-        return new Section(prevSection.getUpStation(), nextSection.getDownStation(), prevSection.getDistance() + nextSection.getDistance());
-    }
-
-    private void validateSections(Section lineSection, Section section) {
-        lineSection.duplicateValidateCheck(section);
-        lineSection.mismatchValidateCheck(section);
-    }
+    public LineResponse saveSections(Long lineId, List<SectionRequest> sectionRequests) {
+        Line line = findLineWithSections(lineId);
+        Set<Long> stationIds = new HashSet<>();
+        for (SectionRequest sectionRequest : sectionRequests) {
+            stationIds.add(sectionRequest.getUpStationId());
+            stationIds.add(sectionRequest.getDownStationId());
+        }
+        Map<Long, Station> stations = stationService.findAllByIds(stationIds);
 
-    private void reregisterStations(Section lineSection, Section section) {
-        lineSection.reregisterUpStation(section);
-        lineSection.reregisterDownStation(section);
-    }
+        for (SectionRequest sectionRequest : sectionRequests) {
+            Station upStation = stations.get(sectionRequest.getUpStationId());
+            Station downStation = stations.get(sectionRequest.getDownStationId());
+            line.insertSection(new Section(upStation, downStation, sectionRequest.getDistance()));
+        }
+        eventPublisher.publishEvent(new LineChangedEvent(line.getId()));
 
-    public Optional<Section> findByUpStationId(Long stationId) {
-        return sectionRepository.findByUpStationId(stationId);
+        return LineResponse.of(line);
     }
 
-    public Optional<Section> findByDownStationId(Long stationId) {
-        return sectionRepository.findByDownStationId(stationId);
+    private Line findLineWithSections(Long lineId) {
+        return lineRepository.findByIdWithSectionsForUpdate(lineId).orElseThrow(() -> new NoSuchElementException("해당 지하철 노선을 찾을 수 없습니다."));
     }
 }
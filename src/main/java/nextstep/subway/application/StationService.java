@@ -1,42 +1,86 @@
 package nextstep.subway.application;
 
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationChangedEvent;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.dto.StationBatchResponse;
 import nextstep.subway.dto.StationRequest;
 import nextstep.subway.dto.StationResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class StationService {
+    private static final int NAME_LOOKUP_CHUNK_SIZE = 1000;
+
     private final StationRepository stationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station persistStation = stationRepository.save(stationRequest.toStation());
+        eventPublisher.publishEvent(new StationChangedEvent(Collections.singletonList(persistStation.getId())));
         return StationResponse.of(persistStation);
     }
 
-    @Transactional(readOnly = true)
-    public List<StationResponse> findAllStations() {
-        List<Station> stations = stationRepository.findAll();
+    /**
+     * 이미 등록된 역 이름과 요청 안에서 중복된 이름은 새로 저장하지 않고 기존 역을 결과로 돌려줍니다.
+     */
+    @Transactional
+    public List<StationBatchResponse> saveStations(List<StationRequest> stationRequests) {
+        Map<String, Station> stationByName = findAllByNames(stationRequests.stream()
+                .map(StationRequest::getName)
+                .collect(Collectors.toSet()));
 
-        return stations.stream()
-                .map(StationResponse::of)
-                .collect(Collectors.toList());
+        List<Station> newStations = new ArrayList<>();
+        List<Station> stations = new ArrayList<>(stationRequests.size());
+        for (StationRequest stationRequest : stationRequests) {
+            Station station = stationByName.computeIfAbsent(stationRequest.getName(), name -> {
+                Station newStation = stationRequest.toStation();
+                newStations.add(newStation);
+                return newStation;
+            });
+            stations.add(station);
+        }
+        stationRepository.saveAll(newStations);
+        if (!newStations.isEmpty()) {
+            eventPublisher.publishEvent(new StationChangedEvent(newStations.stream().map(Station::getId).collect(Collectors.toList())));
+        }
+
+        Set<Station> pendingStations = Collections.newSetFromMap(new IdentityHashMap<>());
+        pendingStations.addAll(newStations);
+        List<StationBatchResponse> responses = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            boolean isNew = pendingStations.remove(station);
+            responses.add(StationBatchResponse.of(station, isNew ? StationBatchResponse.Status.CREATED : StationBatchResponse.Status.DUPLICATED));
+        }
+        return responses;
+    }
+
+    private Map<String, Station> findAllByNames(Set<String> names) {
+        Map<String, Station> stationByName = new HashMap<>(names.size() * 2);
+        List<String> lookupNames = new ArrayList<>(names);
+        for (int from = 0; from < lookupNames.size(); from += NAME_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = lookupNames.subList(from, Math.min(from + NAME_LOOKUP_CHUNK_SIZE, lookupNames.size()));
+            stationRepository.findByNameIn(chunk).forEach(station -> stationByName.put(station.getName(), station));
+        }
+        return stationByName;
     }
 
     @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new StationChangedEvent(Collections.singletonList(id)));
     }
 
     @Transactional(readOnly = true)
@@ -44,4 +88,14 @@ public class StationService {
         return stationRepository.findById(id).orElseThrow(() -> new NoSuchElementException("해당 지하철 역을 찾을 수 없습니다."));
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, Station> findAllByIds(Collection<Long> ids) {
+        Map<Long, Station> stations = stationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (!stations.keySet().containsAll(ids)) {
+            throw new NoSuchElementException("해당 지하철 역을 찾을 수 없습니다.");
+        }
+        return stations;
+    }
+
 }
@@ -17,6 +17,13 @@ public class BaseEntity {
     @LastModifiedDate
     private LocalDateTime modifiedDate;
 
+    /**
+     * 연관된 엔티티만 바뀌어 감사 리스너가 수정 시간을 갱신하지 않는 경우에 직접 갱신합니다.
+     */
+    protected void markModified() {
+        this.modifiedDate = LocalDateTime.now();
+    }
+
     public LocalDateTime getCreatedDate() {
         return createdDate;
     }
@@ -0,0 +1,175 @@
+package nextstep.subway.domain;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 경로 그래프의 모든 역 쌍 사이 최단 거리를 연결 요소별로 미리 계산해 둔 표 입니다.
+ * 거리는 대칭이므로 연결 요소마다 상삼각 부분만 int 배열 하나에 담습니다.
+ * 이전 표에서 구성이 같은 연결 요소는 다시 계산하지 않고 그대로 가져옵니다.
+ * 표 전체 크기는 메모리 예산을 넘지 않으며, 예산에 들어가지 않는 연결 요소는 표를 만들지 않습니다.
+ */
+public class DistanceTable {
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final PathGraph graph;
+    private final Map<Long, Integer> stationIndexes;
+    private final int[] componentOf;
+    private final int[] localIndexOf;
+    private final Component[] components;
+
+    public static DistanceTable of(PathGraph graph, DistanceTable previous, ForkJoinPool pool, int maxComponentSize, long maxTableBytes) {
+        if (maxTableBytes <= 0) {
+            throw new IllegalArgumentException("거리 표 메모리 예산은 0보다 커야 합니다.");
+        }
+
+        int stationCount = graph.stationCount();
+        int[] labels = graph.componentLabels();
+        int componentCount = Arrays.stream(labels).max().orElse(-1) + 1;
+
+        int[] sizes = new int[componentCount];
+        int[] localIndexOf = new int[stationCount];
+        for (int station = 0; station < stationCount; station++) {
+            localIndexOf[station] = sizes[labels[station]]++;
+        }
+
+        int[][] members = new int[componentCount][];
+        for (int component = 0; component < componentCount; component++) {
+            members[component] = new int[sizes[component]];
+        }
+        Map<Long, Integer> stationIndexes = new HashMap<>(stationCount * 2);
+        for (int station = 0; station < stationCount; station++) {
+            members[labels[station]][localIndexOf[station]] = station;
+            stationIndexes.put(graph.stationIdAt(station), station);
+        }
+
+        Component[] components = new Component[componentCount];
+        long remainingBytes = maxTableBytes;
+        for (int component = 0; component < componentCount; component++) {
+            int size = members[component].length;
+            long entries = Component.triangleEntries(size);
+            boolean tabulated = size <= maxComponentSize && entries <= MAX_ARRAY_LENGTH && entries * Integer.BYTES <= remainingBytes;
+            if (tabulated) {
+                remainingBytes -= entries * Integer.BYTES;
+            }
+            components[component] = Component.of(graph, members[component], localIndexOf, previous, pool, tabulated);
+        }
+        return new DistanceTable(graph, stationIndexes, labels, localIndexOf, components);
+    }
+
+    private DistanceTable(PathGraph graph, Map<Long, Integer> stationIndexes, int[] componentOf, int[] localIndexOf, Component[] components) {
+        this.graph = graph;
+        this.stationIndexes = stationIndexes;
+        this.componentOf = componentOf;
+        this.localIndexOf = localIndexOf;
+        this.components = components;
+    }
+
+    public boolean isBuiltFrom(PathGraph graph) {
+        return this.graph == graph;
+    }
+
+    /**
+     * 해당 역이 속한 연결 요소의 거리가 계산되어 있는지 확인합니다.
+     * 연결 요소가 최대 크기나 남은 메모리 예산을 넘으면 표를 만들지 않으므로 경로 그래프에서 직접 구해야 합니다.
+     */
+    public boolean covers(long stationId) {
+        Integer station = stationIndexes.get(stationId);
+        return station != null && components[componentOf[station]].distances != null;
+    }
+
+    public OptionalInt distance(long sourceStationId, long targetStationId) {
+        Integer source = stationIndexes.get(sourceStationId);
+        Integer target = stationIndexes.get(targetStationId);
+        if (source == null || target == null || componentOf[source] != componentOf[target]) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(components[componentOf[source]].distance(localIndexOf[source], localIndexOf[target]));
+    }
+
+    public int reusedComponentCount(DistanceTable previous) {
+        if (previous == null) {
+            return 0;
+        }
+        Set<int[]> previousDistances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Component component : previous.components) {
+            previousDistances.add(component.distances);
+        }
+        return (int) Arrays.stream(components)
+                .filter(component -> component.distances != null && previousDistances.contains(component.distances))
+                .count();
+    }
+
+    public int componentCount() {
+        return components.length;
+    }
+
+    private Component findComponent(long stationId) {
+        Integer station = stationIndexes.get(stationId);
+        return station == null ? null : components[componentOf[station]];
+    }
+
+    private static class Component {
+        private final long[] stationIds;
+        private final long signature;
+        private final int[] distances;
+
+        static Component of(PathGraph graph, int[] members, int[] localIndexOf, DistanceTable previous, ForkJoinPool pool, boolean tabulated) {
+            long[] stationIds = Arrays.stream(members).mapToLong(graph::stationIdAt).toArray();
+            long signature = graph.signature(members);
+            if (!tabulated) {
+                return new Component(stationIds, signature, null);
+            }
+
+            Component reusable = previous == null ? null : previous.findComponent(stationIds[0]);
+            if (reusable != null && reusable.signature == signature && reusable.distances != null
+                    && Arrays.equals(reusable.stationIds, stationIds)) {
+                return new Component(stationIds, signature, reusable.distances);
+            }
+            return new Component(stationIds, signature, computeDistances(graph, members, localIndexOf, pool));
+        }
+
+        /**
+         * 연결 요소의 각 역을 출발역으로 하는 다익스트라를 ForkJoinPool 에서 병렬로 수행합니다.
+         * 출발역마다 상삼각 행렬의 서로 다른 행만 쓰므로 별도의 동기화가 필요 없습니다.
+         * 출발역별 거리 배열은 전체 역 수가 아닌 연결 요소 크기로 잡고 스레드마다 재사용합니다.
+         */
+        private static int[] computeDistances(PathGraph graph, int[] members, int[] localIndexOf, ForkJoinPool pool) {
+            int size = members.length;
+            int[] distances = new int[(int) triangleEntries(size)];
+            ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[size]);
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(source -> {
+                int[] buffer = buffers.get();
+                graph.shortestDistancesInComponent(members, localIndexOf, source, buffer);
+                for (int target = source + 1; target < size; target++) {
+                    distances[triangleIndex(size, source, target)] = buffer[target];
+                }
+            })).join();
+            return distances;
+        }
+
+        private Component(long[] stationIds, long signature, int[] distances) {
+            this.stationIds = stationIds;
+            this.signature = signature;
+            this.distances = distances;
+        }
+
+        int distance(int source, int target) {
+            if (source == target) {
+                return 0;
+            }
+            int row = Math.min(source, target);
+            int column = Math.max(source, target);
+            return distances[triangleIndex(stationIds.length, row, column)];
+        }
+
+        static long triangleEntries(int size) {
+            return (long) size * (size - 1) / 2;
+        }
+
+        private static int triangleIndex(int size, int row, int column) {
+            return (int) ((long) row * (2L * size - row - 1) / 2 + (column - row - 1));
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package nextstep.subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "line")
 public class Line extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq_generator")
+    @SequenceGenerator(name = "line_seq_generator", sequenceName = "line_seq", allocationSize = 50)
     private Long id;
 
     @Embedded
@@ -18,6 +24,9 @@ public class Line extends BaseEntity {
     @Embedded
     private Sections sections;
 
+    @Version
+    private Long version;
+
     protected Line() {
 
     }
@@ -39,6 +48,18 @@ public class Line extends BaseEntity {
     public void addSection(Section section) {
         sections.addSection(section);
         section.setLine(this);
+        markModified();
+    }
+
+    public void insertSection(Section section) {
+        sections.insertSection(section);
+        section.setLine(this);
+        markModified();
+    }
+
+    public void removeStation(Long stationId) {
+        sections.removeStation(stationId);
+        markModified();
     }
 
     public Long getId() {
@@ -57,6 +78,10 @@ public class Line extends BaseEntity {
         return sections;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,23 @@
+package nextstep.subway.domain;
+
+/**
+ * 노선 정보나 노선의 구간이 바뀌었음을 알리는 이벤트 입니다.
+ */
+public class LineChangedEvent {
+    private final Long lineId;
+
+    public LineChangedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    @Override
+    public String toString() {
+        return "LineChangedEvent{" +
+                "lineId=" + lineId +
+                '}';
+    }
+}
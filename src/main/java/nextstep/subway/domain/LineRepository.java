@@ -2,10 +2,60 @@ package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_LOCKMODE;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
-    @Query(value = "select l from Line l join fetch l.sections.sections")
-    Optional<Line> findByIdWithSections(Long id);
+    /**
+     * 다른 인스턴스가 바꾼 노선도 그대로 읽은 값으로 2차 캐시를 덮어쓰도록 캐시 모드를 REFRESH 로 둡니다.
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "REFRESH"))
+    @Query(value = "select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation")
+    List<Line> findAllWithSections();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "select new nextstep.subway.domain.LineSectionRow(" +
+            "l.id, l.name.name, l.color.color, s.id, up.id, up.name, down.id, down.name, s.distance) " +
+            "from Line l " +
+            "left join l.sections.sections s " +
+            "left join s.upStation up " +
+            "left join s.downStation down " +
+            "order by l.id")
+    Stream<LineSectionRow> streamAllSectionRows();
+
+    @Query(value = "select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id = :id")
+    Optional<Line> findByIdWithSections(@Param("id") Long id);
+
+    /**
+     * 구간을 바꾸기 위해 노선을 읽습니다. 구간만 바뀌고 노선 컬럼은 그대로여도 커밋할 때 노선 버전을 올리므로
+     * 같은 노선의 구간을 동시에 바꾸는 트랜잭션 중 하나는 낙관적 잠금 예외로 실패합니다.
+     * 함께 읽는 구간과 역에는 버전이 없으므로 잠금은 노선 별칭에만 겁니다.
+     */
+    @QueryHints(@QueryHint(name = HINT_NATIVE_LOCKMODE + ".l", value = "OPTIMISTIC_FORCE_INCREMENT"))
+    @Query(value = "select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id = :id")
+    Optional<Line> findByIdWithSectionsForUpdate(@Param("id") Long id);
+
+    @Query(value = "select new nextstep.subway.domain.TableVersion(count(l), coalesce(max(l.id), 0L), coalesce(sum(l.version), 0L)) " +
+            "from Line l")
+    TableVersion findTableVersion();
 }
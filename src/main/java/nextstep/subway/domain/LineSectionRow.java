@@ -0,0 +1,70 @@
+package nextstep.subway.domain;
+
+/**
+ * 노선, 구간, 구간의 두 역 중 응답에 필요한 컬럼만 엔티티 없이 한 행으로 조회한 결과입니다.
+ * 구간이 없는 노선은 구간 관련 값이 모두 null 입니다.
+ */
+public class LineSectionRow {
+    private final Long lineId;
+    private final String lineName;
+    private final String lineColor;
+    private final Long sectionId;
+    private final Long upStationId;
+    private final String upStationName;
+    private final Long downStationId;
+    private final String downStationName;
+    private final Integer distance;
+
+    public LineSectionRow(Long lineId, String lineName, String lineColor, Long sectionId, Long upStationId, String upStationName,
+                          Long downStationId, String downStationName, Integer distance) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.lineColor = lineColor;
+        this.sectionId = sectionId;
+        this.upStationId = upStationId;
+        this.upStationName = upStationName;
+        this.downStationId = downStationId;
+        this.downStationName = downStationName;
+        this.distance = distance;
+    }
+
+    public boolean hasSection() {
+        return distance != null;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public String getLineColor() {
+        return lineColor;
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public String getUpStationName() {
+        return upStationName;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public String getDownStationName() {
+        return downStationName;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+}
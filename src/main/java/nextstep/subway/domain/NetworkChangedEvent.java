@@ -0,0 +1,8 @@
+package nextstep.subway.domain;
+
+/**
+ * 개별 노선 단위가 아니라 노선도 전체가 한꺼번에 바뀌었음을 알리는 이벤트 입니다.
+ * 메모리에 노선도 정보를 들고 있는 곳은 이 이벤트를 받으면 전부 다시 읽어야 합니다.
+ */
+public class NetworkChangedEvent {
+}
@@ -0,0 +1,47 @@
+package nextstep.subway.domain;
+
+/**
+ * 경로 탐색 그래프를 만들기 위해 구간에서 노선, 역 정보와 거리만 옮겨 담은 값 객체 입니다.
+ * 트랜잭션이 끝난 뒤에도 엔티티를 붙잡지 않도록 구간 대신 사용합니다.
+ */
+public class PathEdge {
+    private final Long lineId;
+    private final long upStationId;
+    private final String upStationName;
+    private final long downStationId;
+    private final String downStationName;
+    private final int distance;
+
+    public PathEdge(Long lineId, Long upStationId, String upStationName, Long downStationId, String downStationName, int distance) {
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.upStationName = upStationName;
+        this.downStationId = downStationId;
+        this.downStationName = downStationName;
+        this.distance = distance;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public long getUpStationId() {
+        return upStationId;
+    }
+
+    public String getUpStationName() {
+        return upStationName;
+    }
+
+    public long getDownStationId() {
+        return downStationId;
+    }
+
+    public String getDownStationName() {
+        return downStationName;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
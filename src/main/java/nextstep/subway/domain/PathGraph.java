@@ -0,0 +1,294 @@
+package nextstep.subway.domain;
+
+import java.util.*;
+
+/**
+ * 구간을 양방향 간선으로 하는 불변 그래프 입니다.
+ * 역은 역 id 오름차순의 int 인덱스로, 간선은 인접 배열(CSR) 형태의 int 배열로 보관합니다.
+ */
+public class PathGraph {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final long[] stationIds;
+    private final String[] stationNames;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] edgeDistances;
+
+    public static PathGraph of(Collection<PathEdge> edges) {
+        Map<Long, String> names = new HashMap<>(edges.size() * 2);
+        for (PathEdge edge : edges) {
+            names.put(edge.getUpStationId(), edge.getUpStationName());
+            names.put(edge.getDownStationId(), edge.getDownStationName());
+        }
+
+        long[] stationIds = names.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        String[] stationNames = new String[stationIds.length];
+        for (int i = 0; i < stationIds.length; i++) {
+            stationNames[i] = names.get(stationIds[i]);
+        }
+
+        int[] edgeOffsets = new int[stationIds.length + 1];
+        for (PathEdge edge : edges) {
+            edgeOffsets[indexOf(stationIds, edge.getUpStationId()) + 1]++;
+            edgeOffsets[indexOf(stationIds, edge.getDownStationId()) + 1]++;
+        }
+        for (int i = 0; i < stationIds.length; i++) {
+            edgeOffsets[i + 1] += edgeOffsets[i];
+        }
+
+        int[] edgeTargets = new int[edges.size() * 2];
+        int[] edgeDistances = new int[edges.size() * 2];
+        int[] cursor = Arrays.copyOf(edgeOffsets, stationIds.length);
+        for (PathEdge edge : edges) {
+            int up = indexOf(stationIds, edge.getUpStationId());
+            int down = indexOf(stationIds, edge.getDownStationId());
+            edgeTargets[cursor[up]] = down;
+            edgeDistances[cursor[up]++] = edge.getDistance();
+            edgeTargets[cursor[down]] = up;
+            edgeDistances[cursor[down]++] = edge.getDistance();
+        }
+
+        return new PathGraph(stationIds, stationNames, edgeOffsets, edgeTargets, edgeDistances);
+    }
+
+    private PathGraph(long[] stationIds, String[] stationNames, int[] edgeOffsets, int[] edgeTargets, int[] edgeDistances) {
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeTargets = edgeTargets;
+        this.edgeDistances = edgeDistances;
+    }
+
+    public boolean containsStation(long stationId) {
+        return indexOf(stationIds, stationId) >= 0;
+    }
+
+    public Optional<ShortestPath> findShortestPath(long sourceStationId, long targetStationId) {
+        int source = indexOf(stationIds, sourceStationId);
+        int target = indexOf(stationIds, targetStationId);
+        if (source < 0 || target < 0) {
+            return Optional.empty();
+        }
+
+        int[] previous = new int[stationIds.length];
+        int[] distances = shortestDistances(source, target, previous);
+        if (distances[target] == UNREACHABLE) {
+            return Optional.empty();
+        }
+        return Optional.of(new ShortestPath(pathTo(target, previous), distances[target]));
+    }
+
+    int[] shortestDistances(int source, int target, int[] previous) {
+        int[] distances = new int[stationIds.length];
+        shortestDistances(source, target, distances, previous);
+        return distances;
+    }
+
+    /**
+     * 이진 힙을 사용하는 다익스트라 알고리즘으로 source 로부터의 최단 거리를 구합니다.
+     * target 이 확정되면 탐색을 멈추며, target 이 NONE 이면 모든 역까지의 거리를 구합니다.
+     */
+    void shortestDistances(int source, int target, int[] distances, int[] previous) {
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+        distances[source] = 0;
+
+        IntMinHeap heap = new IntMinHeap(stationIds.length);
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            int distance = heap.peekKey();
+            int station = heap.pop();
+            if (distance > distances[station]) {
+                continue;
+            }
+            if (station == target) {
+                break;
+            }
+            for (int edge = edgeOffsets[station]; edge < edgeOffsets[station + 1]; edge++) {
+                int next = edgeTargets[edge];
+                int nextDistance = distance + edgeDistances[edge];
+                if (nextDistance < distances[next]) {
+                    distances[next] = nextDistance;
+                    previous[next] = station;
+                    heap.push(next, nextDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 연결 요소 안에서만 다익스트라를 수행해 source 로부터 같은 연결 요소의 모든 역까지 거리를 구합니다.
+     * 역은 연결 요소 안의 번호로 다루므로 distances 는 연결 요소 크기만큼만 있으면 됩니다.
+     */
+    void shortestDistancesInComponent(int[] members, int[] localIndexOf, int source, int[] distances) {
+        Arrays.fill(distances, UNREACHABLE);
+        distances[source] = 0;
+
+        IntMinHeap heap = new IntMinHeap(members.length);
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            int distance = heap.peekKey();
+            int station = heap.pop();
+            if (distance > distances[station]) {
+                continue;
+            }
+            int global = members[station];
+            for (int edge = edgeOffsets[global]; edge < edgeOffsets[global + 1]; edge++) {
+                int next = localIndexOf[edgeTargets[edge]];
+                int nextDistance = distance + edgeDistances[edge];
+                if (nextDistance < distances[next]) {
+                    distances[next] = nextDistance;
+                    heap.push(next, nextDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결 요소마다 0부터 번호를 붙여 역 인덱스별 연결 요소 번호를 반환합니다.
+     */
+    int[] componentLabels() {
+        int[] labels = new int[stationIds.length];
+        Arrays.fill(labels, NONE);
+        int[] queue = new int[stationIds.length];
+        int label = 0;
+        for (int start = 0; start < stationIds.length; start++) {
+            if (labels[start] != NONE) {
+                continue;
+            }
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            labels[start] = label;
+            while (head < tail) {
+                int station = queue[head++];
+                for (int edge = edgeOffsets[station]; edge < edgeOffsets[station + 1]; edge++) {
+                    int next = edgeTargets[edge];
+                    if (labels[next] == NONE) {
+                        labels[next] = label;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            label++;
+        }
+        return labels;
+    }
+
+    /**
+     * 역과 간선 거리로 계산한 연결 요소의 서명입니다. 간선 순서와 무관하게 같은 구성이면 같은 값을 가집니다.
+     */
+    long signature(int[] members) {
+        long signature = members.length;
+        for (int station : members) {
+            for (int edge = edgeOffsets[station]; edge < edgeOffsets[station + 1]; edge++) {
+                signature += mix(stationIds[station] * 31 + stationIds[edgeTargets[edge]], edgeDistances[edge]);
+            }
+        }
+        return signature;
+    }
+
+    private static long mix(long key, int distance) {
+        long hash = key * 0x9E3779B97F4A7C15L + distance;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    int indexOfStation(long stationId) {
+        return indexOf(stationIds, stationId);
+    }
+
+    long stationIdAt(int index) {
+        return stationIds[index];
+    }
+
+    private List<Station> pathTo(int target, int[] previous) {
+        LinkedList<Station> path = new LinkedList<>();
+        for (int station = target; station != NONE; station = previous[station]) {
+            path.addFirst(new Station(stationIds[station], stationNames[station]));
+        }
+        return path;
+    }
+
+    public int stationCount() {
+        return stationIds.length;
+    }
+
+    public int edgeCount() {
+        return edgeTargets.length / 2;
+    }
+
+    private static int indexOf(long[] stationIds, long stationId) {
+        int index = Arrays.binarySearch(stationIds, stationId);
+        return index >= 0 ? index : NONE;
+    }
+
+    /**
+     * 거리 값을 키로 하는 역 인덱스 최소 힙 입니다.
+     * 거리 갱신 시 기존 원소를 고치지 않고 새로 넣으며, 꺼낼 때 이미 확정된 거리보다 큰 원소는 건너뜁니다.
+     */
+    private static class IntMinHeap {
+        private int[] values;
+        private int[] keys;
+        private int size;
+
+        IntMinHeap(int capacity) {
+            this.values = new int[Math.max(capacity, 1)];
+            this.keys = new int[Math.max(capacity, 1)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peekKey() {
+            return keys[0];
+        }
+
+        void push(int value, int key) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                values[index] = values[parent];
+                keys[index] = keys[parent];
+                index = parent;
+            }
+            values[index] = value;
+            keys[index] = key;
+        }
+
+        int pop() {
+            int result = values[0];
+            int lastValue = values[--size];
+            int lastKey = keys[size];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (lastKey <= keys[child]) {
+                    break;
+                }
+                values[index] = values[child];
+                keys[index] = keys[child];
+                index = child;
+            }
+            values[index] = lastValue;
+            keys[index] = lastKey;
+            return result;
+        }
+    }
+}
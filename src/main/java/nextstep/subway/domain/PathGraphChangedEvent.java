@@ -0,0 +1,7 @@
+package nextstep.subway.domain;
+
+/**
+ * 경로 그래프를 다시 만들어야 하는 변경이 반영되었음을 알리는 이벤트 입니다.
+ */
+public class PathGraphChangedEvent {
+}
@@ -1,12 +1,18 @@
 package nextstep.subway.domain;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "section")
 public class Section {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,12 +44,6 @@ public class Section {
         this.distance = distance;
     }
 
-    public void mismatchValidateCheck(Section section) {
-        if (!isSameStation(section.upStation) && !isSameStation(section.downStation)) {
-            throw new IllegalArgumentException("상행역과 하행역 모두 현재 노선에 존재하지 않습니다.");
-        }
-    }
-
     public void duplicateValidateCheck(Section section) {
         if (this.upStation.equals(section.getUpStation()) && this.downStation.equals(section.getDownStation())) {
             throw new IllegalArgumentException(String.format("[%s-%s]으로 이루어진 구간은 이미 등록된 정보 입니다.", section.getUpStation().getName(), section.getDownStation().getName()));
@@ -66,17 +66,16 @@ public class Section {
         }
     }
 
+    public Section merge(Section nextSection) {
+        return new Section(this.line, this.upStation, nextSection.getDownStation(), this.distance + nextSection.getDistance());
+    }
+
     private void distanceValidateCheck(Section section) {
         if (this.distance <= section.getDistance()) {
             throw new IllegalArgumentException("기존 역 사이 길이 보다 크거나 같으면 등록을 할 수 없습니다.");
         }
     }
 
-    private boolean isSameStation(Station station){
-        return this.upStation.equals(station) || this.downStation.equals(station);
-
-    }
-
     private void changeDistance(int distance) {
         this.distance = distance;
     }
@@ -1,11 +1,18 @@
 package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface SectionRepository extends JpaRepository<Section, Long> {
-    Optional<Section> findByDownStationId(Long stationId);
+    @Query(value = "select new nextstep.subway.domain.PathEdge(l.id, u.id, u.name, d.id, d.name, s.distance) " +
+            "from Section s join s.line l join s.upStation u join s.downStation d")
+    List<PathEdge> findAllPathEdges();
 
-    Optional<Section> findByUpStationId(Long stationId);
+    @Query(value = "select new nextstep.subway.domain.PathEdge(l.id, u.id, u.name, d.id, d.name, s.distance) " +
+            "from Section s join s.line l join s.upStation u join s.downStation d " +
+            "where l.id = :lineId")
+    List<PathEdge> findPathEdgesByLineId(@Param("lineId") Long lineId);
 }
@@ -1,17 +1,29 @@
 package nextstep.subway.domain;
 
-import nextstep.subway.util.StationsComparator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import java.util.*;
 
 @Embeddable
 public class Sections {
     @OneToMany(mappedBy = "line", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "line-sections")
     private List<Section> sections = new ArrayList<>();
 
+    @Transient
+    private List<Section> orderSections;
+
+    @Transient
+    private Map<Long, Section> sectionByUpStationId;
+
+    @Transient
+    private Map<Long, Section> sectionByDownStationId;
+
     protected Sections() {
 
     }
@@ -22,11 +34,23 @@ public class Sections {
 
     public void addSection(Section section) {
         sections.add(section);
+        index(section);
+        clearOrder();
+    }
+
+    public void insertSection(Section section) {
+        buildIndex();
+        validateInsertable(section);
+        reregisterUpStation(section);
+        reregisterDownStation(section);
+        addSection(section);
     }
 
     public List<Section> getOrderSections() {
-        sections.sort(new StationsComparator());
-        return sections;
+        if (orderSections == null) {
+            orderSections = Collections.unmodifiableList(orderByStation());
+        }
+        return orderSections;
     }
 
     public int size() {
@@ -35,6 +59,125 @@ public class Sections {
 
     public void removeSection(Section section) {
         sections.remove(section);
+        unindex(section);
+        clearOrder();
+    }
+
+    /**
+     * 역 앞뒤 구간을 인덱스에서 찾아 제거하고, 중간 역이면 두 구간을 하나로 합칩니다.
+     */
+    public void removeStation(Long stationId) {
+        if (sections.size() == 1) {
+            throw new IllegalArgumentException("단일 구간인 노선입니다. 구간을 삭제할 수 없습니다.");
+        }
+
+        buildIndex();
+        Section prevSection = sectionByDownStationId.get(stationId);
+        Section nextSection = sectionByUpStationId.get(stationId);
+        if (prevSection == null && nextSection == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+
+        if (prevSection != null) {
+            removeSection(prevSection);
+        }
+        if (nextSection != null) {
+            removeSection(nextSection);
+        }
+        if (prevSection != null && nextSection != null) {
+            addSection(prevSection.merge(nextSection));
+        }
+    }
+
+    private void validateInsertable(Section section) {
+        if (sections.isEmpty()) {
+            return;
+        }
+
+        Section sameUpStationSection = sectionByUpStationId.get(section.getUpStation().getId());
+        if (sameUpStationSection != null) {
+            sameUpStationSection.duplicateValidateCheck(section);
+        }
+
+        boolean containsUpStation = containsStation(section.getUpStation());
+        boolean containsDownStation = containsStation(section.getDownStation());
+        if (containsUpStation && containsDownStation) {
+            throw new IllegalArgumentException("상행역과 하행역이 이미 노선에 모두 등록되어 있습니다.");
+        }
+        if (!containsUpStation && !containsDownStation) {
+            throw new IllegalArgumentException("상행역과 하행역 모두 현재 노선에 존재하지 않습니다.");
+        }
+    }
+
+    private boolean containsStation(Station station) {
+        return sectionByUpStationId.containsKey(station.getId()) || sectionByDownStationId.containsKey(station.getId());
+    }
+
+    private void reregisterUpStation(Section section) {
+        Section lineSection = sectionByUpStationId.get(section.getUpStation().getId());
+        if (lineSection == null) {
+            return;
+        }
+        unindex(lineSection);
+        lineSection.reregisterUpStation(section);
+        index(lineSection);
+    }
+
+    private void reregisterDownStation(Section section) {
+        Section lineSection = sectionByDownStationId.get(section.getDownStation().getId());
+        if (lineSection == null) {
+            return;
+        }
+        unindex(lineSection);
+        lineSection.reregisterDownStation(section);
+        index(lineSection);
+    }
+
+    private void buildIndex() {
+        if (sectionByUpStationId != null) {
+            return;
+        }
+        sectionByUpStationId = new HashMap<>(sections.size() * 2);
+        sectionByDownStationId = new HashMap<>(sections.size() * 2);
+        sections.forEach(this::index);
+    }
+
+    private void index(Section section) {
+        if (sectionByUpStationId == null) {
+            return;
+        }
+        sectionByUpStationId.put(section.getUpStation().getId(), section);
+        sectionByDownStationId.put(section.getDownStation().getId(), section);
+    }
+
+    private void unindex(Section section) {
+        if (sectionByUpStationId == null) {
+            return;
+        }
+        sectionByUpStationId.remove(section.getUpStation().getId(), section);
+        sectionByDownStationId.remove(section.getDownStation().getId(), section);
+    }
+
+    private void clearOrder() {
+        this.orderSections = null;
+    }
+
+    private List<Section> orderByStation() {
+        buildIndex();
+        List<Section> result = new ArrayList<>(sections.size());
+        Section current = findFirstSection();
+        while (current != null && result.size() < sections.size()) {
+            result.add(current);
+            current = sectionByUpStationId.get(current.getDownStation().getId());
+        }
+        return result;
+    }
+
+    private Section findFirstSection() {
+        return sections.stream()
+                .filter(section -> !sectionByDownStationId.containsKey(section.getUpStation().getId()))
+                .findFirst()
+                .orElse(null);
     }
 
     @Override
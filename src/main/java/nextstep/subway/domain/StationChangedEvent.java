@@ -0,0 +1,25 @@
+package nextstep.subway.domain;
+
+import java.util.List;
+
+/**
+ * 지하철역이 추가되거나 삭제되었음을 알리는 이벤트 입니다.
+ */
+public class StationChangedEvent {
+    private final List<Long> stationIds;
+
+    public StationChangedEvent(List<Long> stationIds) {
+        this.stationIds = stationIds;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    @Override
+    public String toString() {
+        return "StationChangedEvent{" +
+                "stationIds=" + stationIds +
+                '}';
+    }
+}
@@ -1,10 +1,30 @@
 package nextstep.subway.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+
 public interface StationRepository extends JpaRepository<Station, Long> {
     @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Station> findAll();
+
+    List<Station> findByNameIn(Collection<String> names);
+
+    /**
+     * 다른 인스턴스가 바꾼 역도 보이도록 2차 캐시를 읽지 않고 데이터베이스에서 전부 읽어, 읽은 값으로 캐시를 새로 채웁니다.
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHE_MODE, value = "REFRESH"))
+    @Query(value = "select s from Station s")
+    List<Station> findAllFromDatabase();
+
+    @Query(value = "select new nextstep.subway.domain.TableVersion(count(s), coalesce(max(s.id), 0L), 0L) from Station s")
+    TableVersion findTableVersion();
 }
\ No newline at end of file
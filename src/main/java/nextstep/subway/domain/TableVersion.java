@@ -0,0 +1,42 @@
+package nextstep.subway.domain;
+
+import java.util.Objects;
+
+/**
+ * 테이블의 행 수, 가장 큰 id, 버전 합계를 한 번에 조회한 결과입니다.
+ * 행이 추가되거나 삭제되거나 버전이 올라가면 값이 바뀌므로, 메모리에 들고 있는 사본이 데이터베이스와 같은지 싸게 비교할 수 있습니다.
+ * 버전 컬럼이 없는 테이블은 버전 합계를 0 으로 둡니다.
+ */
+public class TableVersion {
+    private final long rowCount;
+    private final long maxId;
+    private final long versionSum;
+
+    public TableVersion(long rowCount, long maxId, long versionSum) {
+        this.rowCount = rowCount;
+        this.maxId = maxId;
+        this.versionSum = versionSum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TableVersion that = (TableVersion) o;
+        return rowCount == that.rowCount && maxId == that.maxId && versionSum == that.versionSum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowCount, maxId, versionSum);
+    }
+
+    @Override
+    public String toString() {
+        return "TableVersion{" +
+                "rowCount=" + rowCount +
+                ", maxId=" + maxId +
+                ", versionSum=" + versionSum +
+                '}';
+    }
+}
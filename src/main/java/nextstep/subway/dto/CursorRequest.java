@@ -0,0 +1,51 @@
+package nextstep.subway.dto;
+
+public class CursorRequest {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    public static final CursorRequest UNPAGED = new CursorRequest(0L, Integer.MAX_VALUE, true);
+
+    private final long after;
+    private final int limit;
+    private final boolean unpaged;
+
+    /**
+     * after, limit 이 모두 없으면 기존 클라이언트와의 호환을 위해 전체 목록을 한 번에 조회합니다.
+     * after 만 있으면 기본 개수만큼 조회합니다.
+     */
+    public static CursorRequest of(Long after, Integer limit) {
+        if (after == null && limit == null) {
+            return UNPAGED;
+        }
+        return new CursorRequest(after == null ? 0L : after, limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    public CursorRequest(long after, int limit) {
+        this(after, validateLimit(limit), false);
+    }
+
+    private CursorRequest(long after, int limit, boolean unpaged) {
+        this.after = after;
+        this.limit = limit;
+        this.unpaged = unpaged;
+    }
+
+    private static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format("조회 개수는 1 이상 %d 이하여야 합니다.", MAX_LIMIT));
+        }
+        return limit;
+    }
+
+    public boolean isUnpaged() {
+        return unpaged;
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.dto;
+
+import java.util.List;
+
+/**
+ * 커서 페이지와 페이지를 꺼낸 목록 전체의 마지막 수정 시간입니다. 수정 시간을 모르면 lastModified 는 -1 입니다.
+ */
+public class CursorResponse<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+    private final long lastModified;
+
+    public CursorResponse(List<T> items, Long nextCursor) {
+        this(items, nextCursor, -1);
+    }
+
+    private CursorResponse(List<T> items, Long nextCursor, long lastModified) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.lastModified = lastModified;
+    }
+
+    public CursorResponse<T> withLastModified(long lastModified) {
+        return new CursorResponse<>(items, nextCursor, lastModified);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
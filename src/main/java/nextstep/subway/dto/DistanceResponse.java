@@ -0,0 +1,25 @@
+package nextstep.subway.dto;
+
+public class DistanceResponse {
+    private final Long source;
+    private final Long target;
+    private final int distance;
+
+    public DistanceResponse(Long source, Long target, int distance) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
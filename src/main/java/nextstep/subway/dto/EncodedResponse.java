@@ -0,0 +1,85 @@
+package nextstep.subway.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 미리 UTF-8 JSON 으로 직렬화해 둔 응답 본문과 본문으로 계산한 강한 ETag 입니다.
+ * 수정 시간을 모르는 응답의 lastModified 는 -1 입니다.
+ */
+public class EncodedResponse {
+    private static final byte ARRAY_START = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte SEPARATOR = ',';
+
+    private final byte[] body;
+    private final String eTag;
+    private final long lastModified;
+
+    public static EncodedResponse of(byte[] body) {
+        return of(body, -1);
+    }
+
+    public static EncodedResponse of(byte[] body, long lastModified) {
+        return new EncodedResponse(body, eTagOf(body), lastModified);
+    }
+
+    /**
+     * 배열 본문을 만들지 않고도 조건부 요청을 판단할 수 있도록 각 응답의 ETag 를 이어 붙여 배열의 ETag 를 계산합니다.
+     */
+    public static String eTagOf(List<EncodedResponse> elements, Long nextCursor) {
+        StringBuilder eTags = new StringBuilder();
+        for (EncodedResponse element : elements) {
+            eTags.append(element.eTag);
+        }
+        eTags.append(nextCursor);
+        return eTagOf(eTags.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 각 응답 본문을 복사해 이어 붙여 JSON 배열 하나로 만듭니다.
+     */
+    public static byte[] toArrayBody(List<EncodedResponse> elements) {
+        int length = 2 + Math.max(elements.size() - 1, 0);
+        for (EncodedResponse element : elements) {
+            length += element.body.length;
+        }
+
+        byte[] body = new byte[length];
+        int position = 0;
+        body[position++] = ARRAY_START;
+        for (EncodedResponse element : elements) {
+            if (position > 1) {
+                body[position++] = SEPARATOR;
+            }
+            System.arraycopy(element.body, 0, body, position, element.body.length);
+            position += element.body.length;
+        }
+        body[position] = ARRAY_END;
+        return body;
+    }
+
+    private static String eTagOf(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    private EncodedResponse(byte[] body, String eTag, long lastModified) {
+        this.body = body;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+}
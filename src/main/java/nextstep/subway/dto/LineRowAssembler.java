@@ -0,0 +1,62 @@
+package nextstep.subway.dto;
+
+import nextstep.subway.domain.LineSectionRow;
+
+import java.util.*;
+
+/**
+ * 한 노선의 구간 행을 모아 상행역부터 하행역 순서로 구간을 정렬한 노선 응답을 만듭니다.
+ * 엔티티를 만들지 않고 행의 값만으로 정렬합니다.
+ */
+public class LineRowAssembler {
+    private final LineSectionRow line;
+    private final Map<Long, LineSectionRow> sectionByUpStationId = new HashMap<>();
+    private final Set<Long> downStationIds = new HashSet<>();
+
+    public LineRowAssembler(LineSectionRow row) {
+        this.line = row;
+        add(row);
+    }
+
+    public boolean isSameLine(LineSectionRow row) {
+        return line.getLineId().equals(row.getLineId());
+    }
+
+    public void add(LineSectionRow row) {
+        if (!isSameLine(row)) {
+            throw new IllegalArgumentException("다른 노선의 구간 행입니다.");
+        }
+        if (row.hasSection()) {
+            sectionByUpStationId.put(row.getUpStationId(), row);
+            downStationIds.add(row.getDownStationId());
+        }
+    }
+
+    public LineResponse toResponse() {
+        return new LineResponse(line.getLineId(), line.getLineName(), line.getLineColor(), orderSections());
+    }
+
+    private List<SectionResponse> orderSections() {
+        List<SectionResponse> result = new ArrayList<>(sectionByUpStationId.size());
+        LineSectionRow current = findFirstSection();
+        while (current != null && result.size() < sectionByUpStationId.size()) {
+            result.add(toSectionResponse(current));
+            current = sectionByUpStationId.get(current.getDownStationId());
+        }
+        return result;
+    }
+
+    private LineSectionRow findFirstSection() {
+        return sectionByUpStationId.values().stream()
+                .filter(row -> !downStationIds.contains(row.getUpStationId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private SectionResponse toSectionResponse(LineSectionRow row) {
+        return new SectionResponse(row.getSectionId(),
+                new StationResponse(row.getUpStationId(), row.getUpStationName()),
+                new StationResponse(row.getDownStationId(), row.getDownStationName()),
+                row.getDistance());
+    }
+}
@@ -0,0 +1,31 @@
+package nextstep.subway.dto;
+
+import nextstep.subway.domain.ShortestPath;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathResponse {
+    private final List<StationResponse> stations;
+    private final int distance;
+
+    public static PathResponse of(ShortestPath path) {
+        List<StationResponse> stations = path.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, path.getDistance());
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -14,9 +14,13 @@ public class SectionResponse {
     }
 
     public SectionResponse(Long id, Station upStation, Station downStation, int distance) {
+        this(id, StationResponse.of(upStation), StationResponse.of(downStation), distance);
+    }
+
+    public SectionResponse(Long id, StationResponse upStation, StationResponse downStation, int distance) {
         this.id = id;
-        this.upStation = StationResponse.of(upStation);
-        this.downStation = StationResponse.of(downStation);
+        this.upStation = upStation;
+        this.downStation = downStation;
         this.distance = distance;
     }
 
@@ -0,0 +1,36 @@
+package nextstep.subway.dto;
+
+import nextstep.subway.domain.Station;
+
+public class StationBatchResponse {
+    private final Long id;
+    private final String name;
+    private final Status status;
+
+    public static StationBatchResponse of(Station station, Status status) {
+        return new StationBatchResponse(station.getId(), station.getName(), status);
+    }
+
+    public StationBatchResponse(Long id, String name, Status status) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public enum Status {
+        CREATED,
+        DUPLICATED
+    }
+}
@@ -5,6 +5,13 @@ import nextstep.subway.domain.Station;
 public class StationRequest {
     private String name;
 
+    public StationRequest() {
+    }
+
+    public StationRequest(String name) {
+        this.name = name;
+    }
+
     public String getName() {
         return name;
     }
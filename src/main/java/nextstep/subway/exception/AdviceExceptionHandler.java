@@ -1,7 +1,9 @@
 package nextstep.subway.exception;
 
 import javassist.NotFoundException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,6 +18,20 @@ public class AdviceExceptionHandler {
                 .body(e.getMessage());
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body("다른 요청이 같은 노선을 변경하고 있습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    protected ResponseEntity handleTaskRejectedException(TaskRejectedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body("처리 대기 중인 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
     @ExceptionHandler(NotFoundException.class)
     protected ResponseEntity handleNotFoundException(NotFoundException e) {
         return ResponseEntity
@@ -0,0 +1,28 @@
+package nextstep.subway.ui;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * subway.async.enabled 가 켜져 있을 때 쓰기 요청을 실행할 스레드 풀을 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "subway.async.enabled", havingValue = "true")
+public class AsyncRequestConfig {
+    static final String WRITE_REQUEST_EXECUTOR = "writeRequestTaskExecutor";
+
+    @Bean(name = WRITE_REQUEST_EXECUTOR)
+    public ThreadPoolTaskExecutor writeRequestTaskExecutor(@Value("${subway.async.pool-size:32}") int poolSize,
+                                                       @Value("${subway.async.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("write-request-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,141 @@
+package nextstep.subway.ui;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * subway.access-log.full-body-sample-rate 비율의 요청만 골라 요청, 응답 본문의 앞부분을 요청 속성에 남겨 접근 로그가 함께 쓰게 합니다.
+ * 표본을 요청이 시작될 때 고르므로 고르지 않은 요청은 본문을 복사하지 않고, 비율이 0 이면 어떤 요청도 감싸지 않습니다.
+ * 응답은 내보내는 그대로 흘려 보내면서 앞부분만 복사하므로 스트리밍 응답과 비동기 응답도 늦추지 않습니다.
+ */
+@Component
+public class BodySamplingFilter extends OncePerRequestFilter {
+    public static final String BODY_SAMPLE_ATTRIBUTE = "subway.bodySample";
+    static final int BODY_LIMIT = 4096;
+
+    private final double sampleRate;
+
+    public BodySamplingFilter(@Value("${subway.access-log.full-body-sample-rate:0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingRequestWrapper sampledRequest = new ContentCachingRequestWrapper(request, BODY_LIMIT);
+        SampledResponse sampledResponse = new SampledResponse(response);
+        request.setAttribute(BODY_SAMPLE_ATTRIBUTE, new BodySample(sampledRequest, sampledResponse));
+        filterChain.doFilter(sampledRequest, sampledResponse);
+    }
+
+    /**
+     * 요청에서 읽은 본문과 응답 출력 스트림으로 내보낸 본문을 각각 앞에서 {@link #BODY_LIMIT} 바이트까지 UTF-8 로 읽어 줍니다.
+     */
+    public static class BodySample {
+        private final ContentCachingRequestWrapper request;
+        private final SampledResponse response;
+
+        private BodySample(ContentCachingRequestWrapper request, SampledResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        public String getRequestBody() {
+            return new String(request.getContentAsByteArray(), StandardCharsets.UTF_8);
+        }
+
+        public String getResponseBody() {
+            return response.body();
+        }
+    }
+
+    private static class SampledResponse extends HttpServletResponseWrapper {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+
+        SampledResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public synchronized ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TeeOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        String body() {
+            synchronized (body) {
+                return new String(body.toByteArray(), StandardCharsets.UTF_8);
+            }
+        }
+
+        private void copy(byte[] bytes, int offset, int length) {
+            synchronized (body) {
+                int copied = Math.min(length, BODY_LIMIT - body.size());
+                if (copied > 0) {
+                    body.write(bytes, offset, copied);
+                }
+            }
+        }
+
+        private class TeeOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            TeeOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                copy(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                copy(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
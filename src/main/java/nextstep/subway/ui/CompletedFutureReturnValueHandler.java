@@ -0,0 +1,97 @@
+package nextstep.subway.ui;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandlerComposite;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 컨트롤러가 이미 완료된 CompletableFuture 를 돌려주면 비동기 디스패치를 시작하지 않고 결과를 바로 응답합니다.
+ * 쓰기 API 는 비동기 모드를 위해 CompletableFuture 를 돌려주지만, 기본 모드에서는 요청 스레드에서 실행을 마친 future 이므로
+ * 일반 ResponseEntity 를 돌려줄 때와 같은 경로로 응답합니다. 아직 끝나지 않았거나 예외로 끝난 future 는 Spring MVC 가 그대로 처리합니다.
+ */
+@Component
+@Lazy(false)
+class CompletedFutureReturnValueHandler implements HandlerMethodReturnValueHandler, SmartInitializingSingleton {
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final HandlerMethodReturnValueHandlerComposite delegates = new HandlerMethodReturnValueHandlerComposite();
+
+    CompletedFutureReturnValueHandler(RequestMappingHandlerAdapter handlerAdapter) {
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    /**
+     * 기본 처리기 중 CompletableFuture 를 비동기로 처리하는 것보다 먼저 확인하도록 맨 앞에 등록합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(handlerAdapter.getReturnValueHandlers());
+        delegates.addHandlers(handlers);
+        handlers.add(0, this);
+        handlerAdapter.setReturnValueHandlers(handlers);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return CompletableFuture.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest) throws Exception {
+        CompletableFuture<?> future = (CompletableFuture<?>) returnValue;
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            delegates.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+            return;
+        }
+        Object result = future.join();
+        delegates.handleReturnValue(result, new CompletedResultParameter(returnType, result), mavContainer, webRequest);
+    }
+
+    /**
+     * 컨트롤러 메서드의 반환 타입 CompletableFuture&lt;T&gt; 대신 T 를 반환 타입으로 보여 줍니다.
+     */
+    private static class CompletedResultParameter extends MethodParameter {
+        private final Class<?> resultType;
+        private final Type genericResultType;
+
+        CompletedResultParameter(MethodParameter returnType, Object result) {
+            super(returnType);
+            ResolvableType type = ResolvableType.forMethodParameter(returnType).as(CompletableFuture.class).getGeneric();
+            this.genericResultType = type.getType();
+            this.resultType = result != null ? result.getClass() : type.toClass();
+        }
+
+        private CompletedResultParameter(CompletedResultParameter original) {
+            super(original);
+            this.genericResultType = original.genericResultType;
+            this.resultType = original.resultType;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return resultType;
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return genericResultType;
+        }
+
+        @Override
+        public CompletedResultParameter clone() {
+            return new CompletedResultParameter(this);
+        }
+    }
+}
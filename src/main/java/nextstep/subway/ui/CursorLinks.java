@@ -0,0 +1,37 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.CursorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답에 다음 페이지 위치를 Link, X-Next-Cursor 헤더로 담습니다.
+ */
+class CursorLinks {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private CursorLinks() {
+    }
+
+    static <T> ResponseEntity<List<T>> toResponseEntity(CursorResponse<T> page, CursorRequest request) {
+        return ok(page, request).body(page.getItems());
+    }
+
+    static ResponseEntity.BodyBuilder ok(CursorResponse<?> page, CursorRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", request.getLimit())
+                    .build()
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                    .header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return builder;
+    }
+}
@@ -1,50 +1,88 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.application.LineExportService;
 import nextstep.subway.application.LineService;
+import nextstep.subway.application.NetworkSnapshotService;
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.CursorResponse;
+import nextstep.subway.dto.EncodedResponse;
 import nextstep.subway.dto.LineRequest;
 import nextstep.subway.dto.LineResponse;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class LineController {
     private final LineService lineService;
+    private final LineExportService lineExportService;
+    private final NetworkSnapshotService networkSnapshotService;
+    private final WriteRequestExecutor writeRequestExecutor;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, LineExportService lineExportService, NetworkSnapshotService networkSnapshotService,
+                          WriteRequestExecutor writeRequestExecutor) {
         this.lineService = lineService;
+        this.lineExportService = lineExportService;
+        this.networkSnapshotService = networkSnapshotService;
+        this.writeRequestExecutor = writeRequestExecutor;
     }
 
     @PostMapping("/lines")
-    public ResponseEntity<LineResponse> createLine(@RequestBody LineRequest lineRequest) {
-        LineResponse line = lineService.saveLine(lineRequest);
-        return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
+    public CompletableFuture<ResponseEntity<LineResponse>> createLine(@RequestBody LineRequest lineRequest) {
+        return writeRequestExecutor.submit(() -> lineService.saveLine(lineRequest))
+                .thenApply(line -> ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line));
     }
 
     @GetMapping(value = "/lines", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<LineResponse>> showLines() {
-        return ResponseEntity.ok().body(lineService.findAllLines());
+    public ResponseEntity<byte[]> showLines(@RequestParam(required = false) Long after,
+                                            @RequestParam(required = false) Integer limit,
+                                            WebRequest webRequest) {
+        CursorRequest cursorRequest = CursorRequest.of(after, limit);
+        CursorResponse<EncodedResponse> page = networkSnapshotService.findLines(cursorRequest);
+        String eTag = EncodedResponse.eTagOf(page.getItems(), page.getNextCursor());
+        // checkNotModified 가 200 응답에도 ETag, Last-Modified 헤더를 함께 씁니다.
+        if (webRequest.checkNotModified(eTag, page.getLastModified())) {
+            return null;
+        }
+        return CursorLinks.ok(page, cursorRequest)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(EncodedResponse.toArrayBody(page.getItems()));
+    }
+
+    @GetMapping(value = "/lines/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportLines() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(lineExportService::exportLines);
     }
 
     @GetMapping(value = "/lines/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<LineResponse> showLine(@PathVariable Long id) {
-        return ResponseEntity.ok().body(lineService.findLineById(id));
+    public ResponseEntity<byte[]> showLine(@PathVariable Long id, WebRequest webRequest) {
+        EncodedResponse line = networkSnapshotService.findLineById(id);
+        if (webRequest.checkNotModified(line.getETag(), line.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(line.getBody());
     }
 
     @PutMapping(value = "/lines/{id}")
-    public ResponseEntity modifyLine(@PathVariable Long id, @RequestBody LineRequest lineRequest) {
-        lineService.modifyLine(id, lineRequest);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> modifyLine(@PathVariable Long id, @RequestBody LineRequest lineRequest) {
+        return writeRequestExecutor.run(() -> lineService.modifyLine(id, lineRequest))
+                .thenApply(ignored -> ResponseEntity.ok().build());
     }
 
     @DeleteMapping(value = "/lines/{id}")
-    public ResponseEntity modifyLine(@PathVariable Long id) {
-        lineService.deleteLineById(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> modifyLine(@PathVariable Long id) {
+        return writeRequestExecutor.run(() -> lineService.deleteLineById(id))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
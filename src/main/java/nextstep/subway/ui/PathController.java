@@ -0,0 +1,32 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.application.DistanceTableService;
+import nextstep.subway.application.PathService;
+import nextstep.subway.dto.DistanceResponse;
+import nextstep.subway.dto.PathResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class PathController {
+    private final PathService pathService;
+    private final DistanceTableService distanceTableService;
+
+    public PathController(PathService pathService, DistanceTableService distanceTableService) {
+        this.pathService = pathService;
+        this.distanceTableService = distanceTableService;
+    }
+
+    @GetMapping(value = "/paths", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findShortestPath(source, target));
+    }
+
+    @GetMapping(value = "/paths/distance", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DistanceResponse> findDistance(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(distanceTableService.findDistance(source, target));
+    }
+}
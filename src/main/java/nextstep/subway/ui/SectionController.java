@@ -9,28 +9,37 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class SectionController {
     private final LineService lineService;
     private final SectionService sectionService;
+    private final WriteRequestExecutor writeRequestExecutor;
 
-    public SectionController(LineService lineService, SectionService sectionService) {
+    public SectionController(LineService lineService, SectionService sectionService, WriteRequestExecutor writeRequestExecutor) {
         this.lineService = lineService;
         this.sectionService = sectionService;
+        this.writeRequestExecutor = writeRequestExecutor;
     }
 
     @PostMapping("/lines/{id}/sections")
-    public ResponseEntity<LineResponse> createSection(@PathVariable Long id, @RequestBody SectionRequest sectionRequest) {
-        LineResponse line = sectionService.saveSection(lineService.findById(id), sectionRequest);
-        return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
+    public CompletableFuture<ResponseEntity<LineResponse>> createSection(@PathVariable Long id, @RequestBody SectionRequest sectionRequest) {
+        return writeRequestExecutor.submit(id, () -> sectionService.saveSection(id, sectionRequest))
+                .thenApply(line -> ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line));
     }
 
-    @DeleteMapping("/lines/{id}/sections")
-    public ResponseEntity<LineResponse> removeLineStation(@PathVariable Long id, @RequestParam Long stationId) {
-        lineService.removeSectionByStationId(id, stationId);
+    @PostMapping("/lines/{id}/sections:batch")
+    public CompletableFuture<ResponseEntity<LineResponse>> createSections(@PathVariable Long id, @RequestBody List<SectionRequest> sectionRequests) {
+        return writeRequestExecutor.submit(id, () -> sectionService.saveSections(id, sectionRequests))
+                .thenApply(line -> ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line));
+    }
 
-        return ResponseEntity.noContent().build();
+    @DeleteMapping("/lines/{id}/sections")
+    public CompletableFuture<ResponseEntity<Void>> removeLineStation(@PathVariable Long id, @RequestParam Long stationId) {
+        return writeRequestExecutor.run(id, () -> lineService.removeSectionByStationId(id, stationId))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -0,0 +1,52 @@
+package nextstep.subway.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.util.SqlStatementCounter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 하나를 처리하는 동안 요청 스레드에서 실행된 SQL 문 수를 요청 속성과 지표로 남깁니다.
+ * 비동기 모드에서 다른 스레드로 넘긴 쓰기 작업의 SQL 은 세지 않습니다.
+ */
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String SQL_COUNT_ATTRIBUTE = "subway.sqlCount";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = SqlStatementCounter.count();
+            request.setAttribute(SQL_COUNT_ATTRIBUTE, count);
+            DistributionSummary.builder("subway.http.sql.statements")
+                    .description("요청 하나를 처리하는 동안 실행된 SQL 문 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriOf(request))
+                    .register(meterRegistry)
+                    .record(count);
+        }
+    }
+
+    private String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
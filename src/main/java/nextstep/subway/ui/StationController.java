@@ -1,39 +1,73 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.application.NetworkSnapshotService;
 import nextstep.subway.application.StationService;
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.CursorResponse;
+import nextstep.subway.dto.StationBatchResponse;
 import nextstep.subway.dto.StationRequest;
 import nextstep.subway.dto.StationResponse;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class StationController {
     private StationService stationService;
+    private NetworkSnapshotService networkSnapshotService;
+    private WriteRequestExecutor writeRequestExecutor;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, NetworkSnapshotService networkSnapshotService, WriteRequestExecutor writeRequestExecutor) {
         this.stationService = stationService;
+        this.networkSnapshotService = networkSnapshotService;
+        this.writeRequestExecutor = writeRequestExecutor;
     }
 
     @PostMapping("/stations")
-    public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
-        StationResponse station = stationService.saveStation(stationRequest);
-        return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
+    public CompletableFuture<ResponseEntity<StationResponse>> createStation(@RequestBody StationRequest stationRequest) {
+        return writeRequestExecutor.submit(() -> stationService.saveStation(stationRequest))
+                .thenApply(station -> ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station));
+    }
+
+    @PostMapping("/stations:batch")
+    public CompletableFuture<ResponseEntity<List<StationBatchResponse>>> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return writeRequestExecutor.submit(() -> stationService.saveStations(stationRequests))
+                .thenApply(stations -> ResponseEntity.ok().body(stations));
     }
 
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> showStations(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              WebRequest webRequest) {
+        CursorRequest cursorRequest = CursorRequest.of(after, limit);
+        CursorResponse<StationResponse> page = networkSnapshotService.findStations(cursorRequest);
+        if (webRequest.checkNotModified(eTagOf(page), page.getLastModified())) {
+            return null;
+        }
+        return CursorLinks.toResponseEntity(page, cursorRequest);
     }
 
     @DeleteMapping("/stations/{id}")
-    public ResponseEntity deleteStation(@PathVariable Long id) {
-        stationService.deleteStationById(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteStation(@PathVariable Long id) {
+        return writeRequestExecutor.run(() -> stationService.deleteStationById(id))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
+    }
+
+    private String eTagOf(CursorResponse<StationResponse> page) {
+        StringBuilder content = new StringBuilder();
+        for (StationResponse station : page.getItems()) {
+            content.append(station.getId()).append(':').append(station.getName()).append('\n');
+        }
+        content.append(page.getNextCursor());
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
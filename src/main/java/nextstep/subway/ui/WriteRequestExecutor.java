@@ -0,0 +1,58 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.application.LineMutationExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 요청을 실행합니다.
+ * 비동기 모드에서는 요청 스레드를 데이터베이스 작업에 묶어 두지 않도록 쓰기 전용 스레드 풀(노선 구간 변경은 노선별 실행기)에
+ * 맡기고, 기본 모드에서는 지금처럼 요청 스레드에서 바로 실행해 완료된 결과를 돌려줍니다.
+ * 기본 모드에서 돌려주는 future 는 이미 완료되어 있으므로 {@link CompletedFutureReturnValueHandler}가 비동기 디스패치 없이 바로 응답합니다.
+ * 일반 ResponseEntity 와의 차이는 AsyncDispatchBenchmark 로 잴 수 있습니다.
+ */
+@Component
+class WriteRequestExecutor {
+    private final Executor executor;
+    private final LineMutationExecutor lineMutationExecutor;
+
+    WriteRequestExecutor(@Qualifier(AsyncRequestConfig.WRITE_REQUEST_EXECUTOR) ObjectProvider<ThreadPoolTaskExecutor> executor,
+                         LineMutationExecutor lineMutationExecutor) {
+        this.executor = executor.getIfAvailable();
+        this.lineMutationExecutor = lineMutationExecutor;
+    }
+
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    CompletableFuture<Void> run(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    <T> CompletableFuture<T> submit(Long lineId, Supplier<T> task) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(lineMutationExecutor.execute(lineId, task));
+        }
+        return lineMutationExecutor.submit(lineId, task);
+    }
+
+    CompletableFuture<Void> run(Long lineId, Runnable task) {
+        return submit(lineId, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package nextstep.subway.util;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import nextstep.subway.ui.BodySamplingFilter;
+import nextstep.subway.ui.BodySamplingFilter.BodySample;
+import nextstep.subway.ui.SqlStatementCountFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 접근 로그 한 줄을 요청 스레드에서 만들어 고정 크기 버퍼에 넣고, 별도 스레드가 모아서 표준 출력에 씁니다.
+ * 버퍼가 가득 차면 요청 스레드를 막지 않고 로그를 버리며, 버린 수는 로그와 지표로 남깁니다.
+ * {@link BodySamplingFilter}가 표본으로 고른 요청은 요청, 응답 본문을 함께 남깁니다.
+ * 지표는 시작할 때 전역 레지스트리에 등록하고 멈출 때 지우므로, 설정을 다시 읽어 새로 시작해도 이전 버퍼를 붙잡고 있지 않습니다.
+ * 스프링 컨텍스트마다, 설정을 다시 읽을 때마다 새 인스턴스가 생기므로 지표에 인스턴스 태그를 붙여 다른 인스턴스의 지표를 지우지 않습니다.
+ */
+public class AsyncAccessLogAppender extends UnsynchronizedAppenderBase<IAccessEvent> {
+    static final String INSTANCE_TAG = "instance";
+    private static final String NA = "-";
+    private static final int DRAIN_BATCH_SIZE = 256;
+    private static final AtomicLong INSTANCES = new AtomicLong();
+
+    private int queueSize = 8192;
+    private final String instance = String.valueOf(INSTANCES.incrementAndGet());
+
+    private final OutputStream output;
+    private final AtomicLong dropped = new AtomicLong();
+    private ArrayBlockingQueue<String> queue;
+    private Thread worker;
+    private List<Meter> meters = Collections.emptyList();
+
+    public AsyncAccessLogAppender() {
+        this(new FileOutputStream(FileDescriptor.out));
+    }
+
+    AsyncAccessLogAppender(OutputStream output) {
+        this.output = output;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @Override
+    public void start() {
+        if (queueSize < 1) {
+            addError("queueSize 는 1 이상이어야 합니다.");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        meters = Arrays.asList(
+                Gauge.builder("subway.access.log.queue", queue, ArrayBlockingQueue::size)
+                        .description("출력을 기다리는 접근 로그 수")
+                        .tag(INSTANCE_TAG, instance)
+                        .register(Metrics.globalRegistry),
+                FunctionCounter.builder("subway.access.log.dropped", dropped, AtomicLong::get)
+                        .description("버퍼가 가득 차 버린 접근 로그 수")
+                        .tag(INSTANCE_TAG, instance)
+                        .register(Metrics.globalRegistry));
+
+        worker = new Thread(this::drain, "access-log");
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        meters.forEach(Metrics.globalRegistry::remove);
+        meters = Collections.emptyList();
+    }
+
+    @Override
+    protected void append(IAccessEvent event) {
+        if (!queue.offer(format(event))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private String format(IAccessEvent event) {
+        StringBuilder line = new StringBuilder(128)
+                .append("method=").append(event.getMethod())
+                .append(" uri=").append(uriOf(event))
+                .append(" status=").append(event.getStatusCode())
+                .append(" latency_ms=").append(event.getElapsedTime())
+                .append(" bytes=").append(event.getContentLength())
+                .append(" sql=").append(event.getAttribute(SqlStatementCountFilter.SQL_COUNT_ATTRIBUTE));
+        BodySample sample = bodySampleOf(event);
+        if (sample != null) {
+            line.append(System.lineSeparator()).append(sample.getRequestBody())
+                    .append(System.lineSeparator()).append(sample.getResponseBody());
+        }
+        return line.toString();
+    }
+
+    private BodySample bodySampleOf(IAccessEvent event) {
+        HttpServletRequest request = event.getRequest();
+        if (request == null) {
+            return null;
+        }
+        Object sample = request.getAttribute(BodySamplingFilter.BODY_SAMPLE_ATTRIBUTE);
+        return sample instanceof BodySample ? (BodySample) sample : null;
+    }
+
+    String getInstance() {
+        return instance;
+    }
+
+    private String uriOf(IAccessEvent event) {
+        String pattern = event.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return NA.equals(pattern) ? event.getRequestURI() : pattern;
+    }
+
+    private void drain() {
+        Writer out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        List<String> lines = new ArrayList<>(DRAIN_BATCH_SIZE);
+        long reportedDrops = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                lines.add(queue.take());
+                queue.drainTo(lines, DRAIN_BATCH_SIZE - 1);
+                reportedDrops = write(out, lines, reportedDrops);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            addError("접근 로그를 쓰지 못했습니다.", e);
+        }
+
+        queue.drainTo(lines);
+        try {
+            write(out, lines, reportedDrops);
+        } catch (IOException e) {
+            addError("접근 로그를 쓰지 못했습니다.", e);
+        }
+    }
+
+    private long write(Writer out, List<String> lines, long reportedDrops) throws IOException {
+        for (String line : lines) {
+            out.write(line);
+            out.write(System.lineSeparator());
+        }
+        lines.clear();
+
+        long drops = dropped.get();
+        if (drops != reportedDrops) {
+            out.write("access-log dropped=" + (drops - reportedDrops) + " total_dropped=" + drops);
+            out.write(System.lineSeparator());
+        }
+        out.flush();
+        return drops;
+    }
+}
@@ -2,6 +2,8 @@ package nextstep.subway.util;
 
 import com.google.common.base.CaseFormat;
 import org.springframework.beans.factory.InitializingBean;
+import nextstep.subway.domain.NetworkChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +22,12 @@ public class DatabaseCleanup implements InitializingBean {
 
     private List<String> tableNames;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DatabaseCleanup(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
@@ -35,9 +43,11 @@ public class DatabaseCleanup implements InitializingBean {
 
         for (String tableName: tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        eventPublisher.publishEvent(new NetworkChangedEvent());
     }
 }
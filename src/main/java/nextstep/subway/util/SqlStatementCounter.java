@@ -0,0 +1,25 @@
+package nextstep.subway.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 현재 스레드 기준으로 셉니다.
+ * Hibernate 가 직접 생성하므로 스프링 빈이 아니며, 요청 단위 집계는 {@link #reset()}과 {@link #count()}로 합니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+}
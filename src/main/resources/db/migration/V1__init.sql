@@ -0,0 +1,39 @@
+create sequence line_seq start with 1 increment by 50;
+create sequence section_seq start with 1 increment by 50;
+create sequence station_seq start with 1 increment by 50;
+
+create table station (
+    id bigint not null,
+    created_date timestamp,
+    modified_date timestamp,
+    name varchar(255),
+    constraint pk_station primary key (id),
+    constraint uk_station_name unique (name)
+);
+
+create table line (
+    id bigint not null,
+    created_date timestamp,
+    modified_date timestamp,
+    name varchar(255),
+    color varchar(255),
+    version bigint,
+    constraint pk_line primary key (id)
+);
+
+create table section (
+    id bigint not null,
+    line_id bigint,
+    up_station_id bigint,
+    down_station_id bigint,
+    distance integer not null,
+    constraint pk_section primary key (id),
+    constraint fk_section_line foreign key (line_id) references line (id),
+    constraint fk_section_up_station foreign key (up_station_id) references station (id),
+    constraint fk_section_down_station foreign key (down_station_id) references station (id)
+);
+
+create index idx_section_line_up_station on section (line_id, up_station_id);
+create index idx_section_line_down_station on section (line_id, down_station_id);
+create index idx_section_up_station on section (up_station_id);
+create index idx_section_down_station on section (down_station_id);
@@ -0,0 +1,131 @@
+package nextstep.subway;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.line.LineAcceptanceTest;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.util.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * fast-startup 프로필은 빌드 때 강화한 엔티티를 지연 로딩 프록시 대신 쓰고 빈과 리포지토리를 늦게 만듭니다.
+ * 기본 프로필은 다른 인수 테스트가 다루므로, 같은 흐름이 이 프로필에서도 같은 응답을 주는지 확인합니다.
+ */
+@DisplayName("fast-startup 프로필의 지하철 노선, 구간, 경로 관련 기능")
+@ActiveProfiles({"test", "fast-startup"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class FastStartupAcceptanceTest {
+    private final LineAcceptanceTest lineAcceptanceTest = new LineAcceptanceTest();
+    private final StationAcceptanceTest stationAcceptanceTest = new StationAcceptanceTest();
+
+    private Long 강남역;
+    private Long 양재역;
+    private Long 판교역;
+    private Long 신분당선;
+    private int previousPort;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @LocalServerPort
+    int port;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 인수 테스트는 기본 프로필 서버의 포트를 한 번만 지정하므로 끝나면 되돌려 놓습니다.
+        previousPort = RestAssured.port;
+        RestAssured.port = port;
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.cleanUp();
+
+        // given
+        강남역 = stationAcceptanceTest.createStation("강남역").jsonPath().getLong("id");
+        양재역 = stationAcceptanceTest.createStation("양재역").jsonPath().getLong("id");
+        판교역 = stationAcceptanceTest.createStation("판교역").jsonPath().getLong("id");
+        신분당선 = lineAcceptanceTest.createLine("신분당선", "bg-red-600", 10, 강남역, 판교역).jsonPath().getLong("id");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RestAssured.port = previousPort;
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 구간을 추가하면
+     * Then 노선 조회와 경로 조회에 추가한 구간의 역이 보인다
+     * When 추가한 역을 구간에서 제거하면
+     * Then 노선 조회에서 제거된 역이 빠진다
+     */
+    @Test
+    void 구간_추가_후_노선과_경로_조회_그리고_구간_제거() {
+        // when
+        ExtractableResponse<Response> created = createSection(신분당선, 강남역, 양재역, 4);
+
+        // then
+        ExtractableResponse<Response> path = findPath(강남역, 판교역);
+        assertAll(
+                () -> assertThat(created.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+                () -> assertThat(lineAcceptanceTest.findLineById(신분당선).jsonPath().getList("sections.downStation.name")).containsExactly("양재역", "판교역"),
+                () -> assertThat(path.jsonPath().getList("stations.name", String.class)).containsExactly("강남역", "양재역", "판교역"),
+                () -> assertThat(path.jsonPath().getInt("distance")).isEqualTo(10)
+        );
+
+        // when
+        ExtractableResponse<Response> deleted = deleteSection(신분당선, 양재역);
+
+        // then
+        assertAll(
+                () -> assertThat(deleted.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(lineAcceptanceTest.findLineById(신분당선).jsonPath().getList("sections.downStation.name")).containsExactly("판교역")
+        );
+    }
+
+    private ExtractableResponse<Response> createSection(Long lineId, Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("upStationId", upStationId);
+        param.put("downStationId", downStationId);
+        param.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(param)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> deleteSection(Long lineId, Long stationId) {
+        return RestAssured.given().log().all()
+                .param("stationId", stationId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().delete("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+}
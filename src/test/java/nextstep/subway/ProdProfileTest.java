@@ -0,0 +1,43 @@
+package nextstep.subway;
+
+import nextstep.subway.application.StationService;
+import nextstep.subway.dto.StationRequest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * prod 프로필의 커넥션 풀, 드라이버, 자동 커밋 설정으로 서버가 뜨고 Flyway 가 만든 스키마에 쓸 수 있는지 확인합니다.
+ * 데이터베이스만 메모리 H2 로 바꿉니다.
+ */
+@DisplayName("prod 프로필")
+@ActiveProfiles("prod")
+@SpringBootTest(properties = {
+        "SUBWAY_DATASOURCE_URL=jdbc:h2:mem:prod-profile;DB_CLOSE_DELAY=-1",
+        "SUBWAY_DATASOURCE_USERNAME=sa",
+        "SUBWAY_DATASOURCE_PASSWORD="})
+class ProdProfileTest {
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private StationService stationService;
+
+    @Test
+    void 마이그레이션으로_만든_스키마에_저장() {
+        // when
+        Long stationId = stationService.saveStation(new StationRequest("강남역")).getId();
+
+        // then
+        assertAll(
+                () -> assertThat(flyway.info().applied()).isNotEmpty(),
+                () -> assertThat(stationService.findById(stationId).getName()).isEqualTo("강남역")
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 스키마는 Flyway 마이그레이션만 만들고, Hibernate 는 엔티티 매핑이 그 스키마와 맞는지만 검사합니다.
+ * 매핑과 마이그레이션이 어긋나면 이 테스트의 컨텍스트가 뜨지 않습니다.
+ */
+@DisplayName("스키마 마이그레이션")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class SchemaMigrationTest {
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 마이그레이션으로_구간_조회_인덱스_생성() {
+        List<String> indexNames = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name = 'SECTION'", String.class);
+
+        assertAll(
+                () -> assertThat(flyway.info().applied()).isNotEmpty(),
+                () -> assertThat(indexNames).contains(
+                        "IDX_SECTION_LINE_UP_STATION",
+                        "IDX_SECTION_LINE_DOWN_STATION",
+                        "IDX_SECTION_UP_STATION",
+                        "IDX_SECTION_DOWN_STATION")
+        );
+    }
+}
@@ -62,6 +62,7 @@ public class LineAcceptanceTest {
      * Given 2개의 지하철 노선을 생성하고
      * When 지하철 노선 목록을 조회하면
      * Then 지하철 노선 목록 조회 시 2개의 노선을 조회할 수 있다.
+     * Then 목록의 ETag 와 Last-Modified 를 응답받는다
      */
     @Test
     void 지하철노선_목록_조회() {
@@ -78,7 +79,62 @@ public class LineAcceptanceTest {
         List<String> lineNames = response.jsonPath().getList("name");
 
         // then
-        assertThat(lineNames).contains("신분당선", "분당선");
+        assertAll(
+                () -> assertThat(lineNames).contains("신분당선", "분당선"),
+                () -> assertThat(response.header("ETag")).isNotNull(),
+                () -> assertThat(response.header("Last-Modified")).isNotNull()
+        );
+    }
+
+    /*
+     * Given 3개의 지하철 노선을 생성하고
+     * When 지하철 노선 목록을 2개씩 조회하면
+     * Then 첫 페이지에서 2개의 노선과 다음 페이지 커서를 응답받는다
+     * Then 다음 페이지에서 나머지 1개의 노선을 응답받는다
+     */
+    @Test
+    void 지하철노선_목록_페이지_조회() {
+        // given
+        createLine("신분당선", "bg-red-600", 10, "강남역", "판교역");
+        createLine("분당선", "bg-yellow-600", 10, "선릉역", "수서역");
+        createLine("2호선", "bg-green-600", 10, "역삼역", "삼성역");
+
+        // when
+        ExtractableResponse<Response> firstPage = findLines(null, 2);
+        ExtractableResponse<Response> secondPage = findLines(Long.valueOf(firstPage.header("X-Next-Cursor")), 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.jsonPath().getList("name", String.class)).containsExactly("신분당선", "분당선"),
+                () -> assertThat(firstPage.header("Link")).contains("rel=\"next\""),
+                () -> assertThat(secondPage.jsonPath().getList("name", String.class)).containsExactly("2호선"),
+                () -> assertThat(secondPage.header("Link")).isNull()
+        );
+    }
+
+    /*
+     * Given 2개의 지하철 노선을 생성하고
+     * When 전체 노선도를 내보내면
+     * Then 구간을 포함한 2개의 노선을 응답받는다
+     */
+    @Test
+    void 전체_노선도_내보내기() {
+        // given
+        createLine("신분당선", "bg-red-600", 10, "강남역", "판교역");
+        createLine("분당선", "bg-yellow-600", 10, "선릉역", "수서역");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when().get("/lines/export")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("name", String.class)).containsExactly("신분당선", "분당선"),
+                () -> assertThat(response.jsonPath().getList("sections.upStation.name.flatten()", String.class)).containsExactly("강남역", "선릉역")
+        );
     }
 
     /*
@@ -98,6 +154,60 @@ public class LineAcceptanceTest {
         assertThat(response.jsonPath().getLong("id")).isEqualTo(line.jsonPath().getLong("id"));
     }
 
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 같은 지하철 노선을 두 번 조회하면
+     * Then 같은 ETag 를 응답받고, 노선을 수정한 뒤에는 다른 ETag 를 응답받는다
+     */
+    @Test
+    void 지하철노선_조회_ETag() {
+        // given
+        ExtractableResponse<Response> line = createLine("신분당선", "bg-red-600", 10, "지하철역", "새로운지하철역");
+        Long lineId = line.jsonPath().getLong("id");
+
+        // when
+        String firstETag = findLineById(lineId).header("ETag");
+        String secondETag = findLineById(lineId).header("ETag");
+        modifyLine(lineId, "다른분당선", "bg-blue-600");
+        String modifiedETag = findLineById(lineId).header("ETag");
+
+        // then
+        assertAll(
+                () -> assertThat(firstETag).isNotNull().isEqualTo(secondETag),
+                () -> assertThat(modifiedETag).isNotEqualTo(firstETag)
+        );
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고 조회한 뒤
+     * When 응답받은 ETag 로 다시 조회하면
+     * Then 본문 없이 304 응답을 받고, 구간이 추가된 뒤에는 새 노선 정보를 응답받는다
+     */
+    @Test
+    void 지하철노선_조건부_조회() {
+        // given
+        ExtractableResponse<Response> line = createLine("신분당선", "bg-red-600", 10, "지하철역", "새로운지하철역");
+        Long lineId = line.jsonPath().getLong("id");
+        ExtractableResponse<Response> findLine = findLineById(lineId);
+        String eTag = findLine.header("ETag");
+
+        // when
+        ExtractableResponse<Response> notModified = findLineById(lineId, eTag);
+        Long newStationId = stationAcceptanceTest.createStation("또다른지하철역").jsonPath().getLong("id");
+        Long upStationId = line.jsonPath().getLong("sections[0].upStation.id");
+        addSection(lineId, upStationId, newStationId, 4);
+        ExtractableResponse<Response> modified = findLineById(lineId, eTag);
+
+        // then
+        assertAll(
+                () -> assertThat(findLine.header("Last-Modified")).isNotNull(),
+                () -> assertThat(notModified.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(notModified.body().asString()).isEmpty(),
+                () -> assertThat(modified.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modified.jsonPath().getList("sections")).hasSize(2)
+        );
+    }
+
     /*
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 수정하면
@@ -120,6 +230,28 @@ public class LineAcceptanceTest {
         );
     }
 
+    /*
+     * Given 지하철 노선을 생성하고 조회한 뒤
+     * When 생성한 지하철 노선을 수정하면
+     * Then 다시 조회할 때 수정된 정보를 응답받는다
+     */
+    @Test
+    void 조회한_지하철노선_수정_후_재조회() {
+        // given
+        ExtractableResponse<Response> line = createLine("신분당선", "bg-red-600", 10, "지하철역", "새로운지하철역");
+        findLineById(line.jsonPath().getLong("id"));
+
+        // when
+        modifyLine(line.jsonPath().getLong("id"), "다른분당선", "bg-blue-600");
+
+        // then
+        ExtractableResponse<Response> findLine = findLineById(line.jsonPath().getLong("id"));
+        assertAll(
+                () -> assertThat(findLine.jsonPath().getString("name")).isEqualTo("다른분당선"),
+                () -> assertThat(findLine.jsonPath().getString("color")).isEqualTo("bg-blue-600")
+        );
+    }
+
     /*
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 삭제하면
@@ -179,6 +311,20 @@ public class LineAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> findLines(Long after, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("limit", limit);
+        if (after != null) {
+            params.put("after", after);
+        }
+
+        return RestAssured.given().log().all()
+                .queryParams(params)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
     public ExtractableResponse<Response> findLineById(Long id) {
         return RestAssured.given().log().all()
                 .when().get("/lines/{id}", id)
@@ -186,6 +332,28 @@ public class LineAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> findLineById(Long id, String eTag) {
+        return RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/lines/{id}", id)
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> addSection(Long lineId, Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("upStationId", upStationId);
+        param.put("downStationId", downStationId);
+        param.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(param)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
     private ExtractableResponse<Response> modifyLine(Long id, String name, String color) {
         Map<String, Object> param = new HashMap<>();
         param.put("name", name);
@@ -1,19 +1,32 @@
 package nextstep.subway.line;
 
-import nextstep.subway.domain.Line;
-import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.*;
+import nextstep.subway.dto.LineResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class LineRepositoryTest {
     @Autowired
     private LineRepository lineRepository;
 
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void 지하철_노선_저장() {
         Line line = new Line("신분당선", "bg-red-600");
@@ -48,4 +61,88 @@ class LineRepositoryTest {
 
         assertThat(lineRepository.findById(line.getId())).isEmpty();
     }
+
+    @Test
+    void 지하철_노선_목록_조회_시_구간과_역을_한번에_조회() {
+        for (int i = 0; i < 3; i++) {
+            Station upStation = stationRepository.save(new Station("상행역" + i));
+            Station middleStation = stationRepository.save(new Station("중간역" + i));
+            Station downStation = stationRepository.save(new Station("하행역" + i));
+            Line line = lineRepository.save(new Line("노선" + i, "bg-red-600"));
+            line.addSection(new Section(line, upStation, middleStation, 5));
+            line.addSection(new Section(line, middleStation, downStation, 5));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<LineResponse> lines = lineRepository.findAllWithSections().stream()
+                .map(LineResponse::of)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines).allSatisfy(line -> assertThat(line.getSections()).hasSize(2)),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 지하철_노선_단건_조회_시_해당_노선의_구간과_역만_한번에_조회() {
+        Line target = null;
+        for (int i = 0; i < 3; i++) {
+            Station upStation = stationRepository.save(new Station("상행역" + i));
+            Station downStation = stationRepository.save(new Station("하행역" + i));
+            Line line = lineRepository.save(new Line("노선" + i, "bg-red-600"));
+            line.addSection(new Section(line, upStation, downStation, 5));
+            if (i == 1) {
+                target = line;
+            }
+        }
+        Long targetId = target.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Line line = lineRepository.findByIdWithSections(targetId).get();
+        LineResponse response = LineResponse.of(line);
+
+        assertAll(
+                () -> assertThat(line.getId()).isEqualTo(targetId),
+                () -> assertThat(response.getSections()).hasSize(1),
+                () -> assertThat(statistics.getEntityLoadCount()).isEqualTo(4),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    void 전체_노선도_행_조회_시_엔티티를_영속성_컨텍스트에_올리지_않음() {
+        Station upStation = stationRepository.save(new Station("강남역"));
+        Station downStation = stationRepository.save(new Station("판교역"));
+        Line line = lineRepository.save(new Line("신분당선", "bg-red-600"));
+        line.addSection(new Section(line, upStation, downStation, 10));
+        lineRepository.save(new Line("분당선", "bg-yellow-600"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<LineSectionRow> rows;
+        try (Stream<LineSectionRow> stream = lineRepository.streamAllSectionRows()) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertAll(
+                () -> assertThat(rows).hasSize(2),
+                () -> assertThat(rows.get(0).hasSection()).isTrue(),
+                () -> assertThat(rows.get(1).hasSection()).isFalse(),
+                () -> assertThat(statistics.getEntityLoadCount()).isZero(),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1)
+        );
+    }
 }
@@ -0,0 +1,48 @@
+package nextstep.subway.line;
+
+import nextstep.subway.domain.LineSectionRow;
+import nextstep.subway.dto.LineResponse;
+import nextstep.subway.dto.LineRowAssembler;
+import nextstep.subway.dto.SectionResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LineRowAssemblerTest {
+    @Test
+    void 구간_행을_상행역부터_하행역_순서로_정렬() {
+        LineRowAssembler assembler = new LineRowAssembler(row(12L, 3L, "판교역", 4L, "광교역", 10));
+        assembler.add(row(10L, 1L, "강남역", 2L, "양재역", 5));
+        assembler.add(row(11L, 2L, "양재역", 3L, "판교역", 7));
+
+        LineResponse response = assembler.toResponse();
+
+        assertAll(
+                () -> assertThat(response.getName()).isEqualTo("신분당선"),
+                () -> assertThat(response.getSections()).extracting(section -> section.getUpStation().getName())
+                        .containsExactly("강남역", "양재역", "판교역"),
+                () -> assertThat(response.getSections()).extracting(SectionResponse::getDistance).containsExactly(5, 7, 10)
+        );
+    }
+
+    @Test
+    void 구간이_없는_노선은_빈_구간으로_응답() {
+        LineRowAssembler assembler = new LineRowAssembler(new LineSectionRow(1L, "신분당선", "bg-red-600", null, null, null, null, null, null));
+
+        assertThat(assembler.toResponse().getSections()).isEmpty();
+    }
+
+    @Test
+    void 다른_노선의_행은_더할_수_없음() {
+        LineRowAssembler assembler = new LineRowAssembler(row(10L, 1L, "강남역", 2L, "양재역", 5));
+
+        assertThatThrownBy(() -> assembler.add(new LineSectionRow(2L, "분당선", "bg-yellow-600", 20L, 5L, "선릉역", 6L, "수서역", 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LineSectionRow row(Long sectionId, Long upStationId, String upStationName, Long downStationId, String downStationName, int distance) {
+        return new LineSectionRow(1L, "신분당선", "bg-red-600", sectionId, upStationId, upStationName, downStationId, downStationName, distance);
+    }
+}
@@ -0,0 +1,170 @@
+package nextstep.subway.path;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.line.LineAcceptanceTest;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.util.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("지하철 경로 조회 기능")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PathAcceptanceTest {
+    private final LineAcceptanceTest lineAcceptanceTest = new LineAcceptanceTest();
+    private final StationAcceptanceTest stationAcceptanceTest = new StationAcceptanceTest();
+
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 삼호선;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @LocalServerPort
+    int port;
+
+    /**
+     * 교대역    --- 2호선, 10 ---    강남역
+     * |                              |
+     * 3호선, 2                    신분당선, 10
+     * |                              |
+     * 남부터미널역  --- 3호선, 3 ---   양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        if (RestAssured.port == RestAssured.UNDEFINED_PORT) {
+            RestAssured.port = port;
+            databaseCleanup.afterPropertiesSet();
+        }
+        databaseCleanup.cleanUp();
+
+        // given
+        교대역 = stationAcceptanceTest.createStation("교대역").jsonPath().getLong("id");
+        강남역 = stationAcceptanceTest.createStation("강남역").jsonPath().getLong("id");
+        양재역 = stationAcceptanceTest.createStation("양재역").jsonPath().getLong("id");
+        남부터미널역 = stationAcceptanceTest.createStation("남부터미널역").jsonPath().getLong("id");
+
+        lineAcceptanceTest.createLine("2호선", "bg-green-600", 10, 교대역, 강남역);
+        lineAcceptanceTest.createLine("신분당선", "bg-red-600", 10, 강남역, 양재역);
+        삼호선 = lineAcceptanceTest.createLine("3호선", "bg-orange-600", 5, 교대역, 양재역).jsonPath().getLong("id");
+    }
+
+    /*
+     * When 출발역과 도착역으로 경로를 조회하면
+     * Then 최단 거리 경로의 역 목록과 거리를 응답받는다
+     */
+    @Test
+    void 최단_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = findPath(교대역, 양재역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("교대역", "양재역"),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(5)
+        );
+    }
+
+    /*
+     * Given 경로를 한 번 조회한 뒤
+     * When 노선에 구간을 추가하고 다시 경로를 조회하면
+     * Then 추가한 구간이 반영된 경로를 응답받는다
+     */
+    @Test
+    void 구간_추가_후_최단_경로_조회() {
+        // given
+        findPath(교대역, 양재역);
+
+        // when
+        createSection(삼호선, 교대역, 남부터미널역, 2);
+        ExtractableResponse<Response> response = findPath(교대역, 양재역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("교대역", "남부터미널역", "양재역"),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(5)
+        );
+    }
+
+    /*
+     * Given 노선에 구간을 추가하고
+     * When 두 역 사이의 거리를 조회하면
+     * Then 최단 경로의 거리를 응답받는다
+     */
+    @Test
+    void 역_사이_거리_조회() {
+        // given
+        createSection(삼호선, 교대역, 남부터미널역, 2);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .queryParam("source", 남부터미널역)
+                .queryParam("target", 강남역)
+                .when().get("/paths/distance")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(12)
+        );
+    }
+
+    /*
+     * When 출발역과 도착역이 같은 경로를 조회하면
+     * Then 예외가 발생한다
+     */
+    @Test
+    @DisplayName("출발역과 도착역이 같으면 경로를 조회할 수 없음")
+    void 최단_경로_조회_예외() {
+        // when
+        ExtractableResponse<Response> response = findPath(교대역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private ExtractableResponse<Response> createSection(Long lineId, Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("upStationId", upStationId);
+        param.put("downStationId", downStationId);
+        param.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(param)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -0,0 +1,166 @@
+package nextstep.subway.section;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.application.LineMutationExecutor;
+import nextstep.subway.line.LineAcceptanceTest;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.util.DatabaseCleanup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * subway.async.enabled=true 로 띄운 서버에서 쓰기 요청이 요청 스레드 밖에서 실행되어도 같은 응답을 주는지 확인합니다.
+ * 줄 하나에 작업 하나만 받도록 두어 대기열이 가득 찬 경우도 재현합니다.
+ */
+@DisplayName("비동기 쓰기 모드의 지하철 구간 관련 기능")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "subway.async.enabled=true",
+        "subway.line-mutation.stripes=1",
+        "subway.line-mutation.queue-capacity=1"})
+class AsyncSectionAcceptanceTest {
+    private final LineAcceptanceTest lineAcceptanceTest = new LineAcceptanceTest();
+    private final StationAcceptanceTest stationAcceptanceTest = new StationAcceptanceTest();
+
+    private Long upStationId;
+    private Long newStationId;
+    private Long lineId;
+    private int previousPort;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private LineMutationExecutor lineMutationExecutor;
+
+    @LocalServerPort
+    int port;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 인수 테스트는 기본 모드 서버의 포트를 한 번만 지정하므로 끝나면 되돌려 놓습니다.
+        previousPort = RestAssured.port;
+        RestAssured.port = port;
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.cleanUp();
+
+        // given
+        upStationId = stationAcceptanceTest.createStation("강남역").jsonPath().getLong("id");
+        Long downStationId = stationAcceptanceTest.createStation("판교역").jsonPath().getLong("id");
+        newStationId = stationAcceptanceTest.createStation("새로운역").jsonPath().getLong("id");
+        lineId = lineAcceptanceTest.createLine("신분당선", "bg-red-600", 10, upStationId, downStationId).jsonPath().getLong("id");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RestAssured.port = previousPort;
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 지하철 구간을 추가하면
+     * Then 추가된 구간이 포함된 노선이 응답되고 노선 조회에도 반영된다
+     * When 추가한 역을 삭제하면
+     * Then 노선 조회에서 삭제된 역이 빠진다
+     */
+    @Test
+    void 비동기로_지하철구간_생성_후_삭제() {
+        // when
+        ExtractableResponse<Response> created = createSection(lineId, upStationId, newStationId, 4);
+
+        // then
+        assertAll(
+                () -> assertThat(created.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+                () -> assertThat(created.header("Location")).isEqualTo("/lines/" + lineId),
+                () -> assertThat(created.jsonPath().getList("sections.downStation.name")).containsExactly("새로운역", "판교역"),
+                () -> assertThat(lineAcceptanceTest.findLineById(lineId).jsonPath().getList("sections.distance", Integer.class)).containsExactly(4, 6)
+        );
+
+        // when
+        ExtractableResponse<Response> deleted = deleteSection(lineId, newStationId);
+
+        // then
+        assertAll(
+                () -> assertThat(deleted.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(lineAcceptanceTest.findLineById(lineId).jsonPath().getList("sections.downStation.name")).containsExactly("판교역")
+        );
+    }
+
+    /*
+     * Given 지하철 노선의 구간 변경 대기열이 가득 찬 상태에서
+     * When 같은 노선에 지하철 구간을 추가하면
+     * Then 503 으로 응답하고 구간은 추가되지 않는다
+     */
+    @Test
+    void 구간_변경_대기열이_가득_차면_503_응답() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> occupying = lineMutationExecutor.submit(lineId, () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        running.await();
+
+        // when
+        ExtractableResponse<Response> response;
+        try {
+            response = createSection(lineId, upStationId, newStationId, 4);
+        } finally {
+            release.countDown();
+            occupying.get();
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value()),
+                () -> assertThat(lineAcceptanceTest.findLineById(lineId).jsonPath().getList("sections")).hasSize(1)
+        );
+    }
+
+    private ExtractableResponse<Response> createSection(Long lineId, Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("upStationId", upStationId);
+        param.put("downStationId", downStationId);
+        param.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(param)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> deleteSection(long lineId, long stationId) {
+        return RestAssured.given().log().all()
+                .param("stationId", stationId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().delete("/lines/{id}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -186,6 +187,48 @@ public class SectionAcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 하행 종점부터 이어지는 여러 구간을 한 번에 등록하면
+     * Then 모든 구간이 순서대로 등록된다.
+     */
+    @Test
+    void 여러_지하철구간_일괄_생성() {
+        // when
+        ExtractableResponse<Response> response = createSections(line.jsonPath().getLong("id"), Arrays.asList(
+                sectionParam(downStation.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"), 5),
+                sectionParam(newStation.jsonPath().getLong("id"), exceptionStation.jsonPath().getLong("id"), 3)));
+        List<Section> sections = response.jsonPath().getList("sections", Section.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+                () -> assertThat(sections).extracting(section -> section.getUpStation().getName()).containsExactly("강남역", "판교역", "새로운역"),
+                () -> assertThat(sections).extracting(Section::getDistance).containsExactly(10, 5, 3)
+        );
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 등록할 수 없는 구간이 포함된 여러 구간을 한 번에 등록하면
+     * Then 예외가 발생하고 어떤 구간도 등록되지 않는다.
+     */
+    @Test
+    @DisplayName("일괄 등록 구간 중 하나라도 등록할 수 없으면 전체가 등록되지 않음")
+    void 여러_지하철구간_일괄_생성_예외() {
+        // when
+        ExtractableResponse<Response> response = createSections(line.jsonPath().getLong("id"), Arrays.asList(
+                sectionParam(downStation.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"), 5),
+                sectionParam(upStation.jsonPath().getLong("id"), downStation.jsonPath().getLong("id"), 3)));
+        ExtractableResponse<Response> findLine = lineAcceptanceTest.findLineById(line.jsonPath().getLong("id"));
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(findLine.jsonPath().getList("sections")).hasSize(1)
+        );
+    }
+
     /*
      * Given 역이 3개인 지하철 노선을 생성하고
      * When 중간 구간 역을 삭제하면
@@ -274,6 +317,51 @@ public class SectionAcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    /*
+     * Given 같은 역을 지나는 두 개의 지하철 노선을 생성하고
+     * When 한 노선에서 환승역을 삭제하면
+     * Then 해당 노선의 구간만 합쳐지고 다른 노선의 구간은 그대로 유지된다.
+     */
+    @Test
+    void 환승역이_있는_지하철노선_구간의_중간역_삭제() {
+        // given
+        createSection(line.jsonPath().getLong("id"), upStation.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"), 7);
+        ExtractableResponse<Response> otherLine = lineAcceptanceTest.createLine("이호선", "bg-green-600", 5, exceptionStation.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"));
+        createSection(otherLine.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"), upStation.jsonPath().getLong("id"), 4);
+
+        // when
+        ExtractableResponse<Response> response = deleteSection(line.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"));
+        List<Section> sections = lineAcceptanceTest.findLineById(line.jsonPath().getLong("id")).jsonPath().getList("sections", Section.class);
+        List<Section> otherSections = lineAcceptanceTest.findLineById(otherLine.jsonPath().getLong("id")).jsonPath().getList("sections", Section.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(sections).hasSize(1),
+                () -> assertThat(sections.get(0).getDistance()).isEqualTo(10),
+                () -> assertThat(otherSections).hasSize(2),
+                () -> assertThat(otherSections.get(0).getDownStation().getName()).isEqualTo("새로운역")
+        );
+    }
+
+    /*
+     * Given 역이 3개인 지하철 노선을 생성하고
+     * When 노선에 등록되지 않은 역을 삭제하면
+     * Then 예외가 발생한다
+     */
+    @Test
+    @DisplayName("노선에 등록되지 않은 역은 제거할 수 없음")
+    void 지하철노선_구간_삭제_예외_2() {
+        // given
+        createSection(line.jsonPath().getLong("id"), upStation.jsonPath().getLong("id"), newStation.jsonPath().getLong("id"), 7);
+
+        // when
+        ExtractableResponse<Response> response = deleteSection(line.jsonPath().getLong("id"), exceptionStation.jsonPath().getLong("id"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     private ExtractableResponse<Response> createSection(Long lineId, Long upStationId, Long downStationId, int distance) {
         Map<String, Object> param = new HashMap<>();
         param.put("upStationId", upStationId);
@@ -288,6 +376,23 @@ public class SectionAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> createSections(Long lineId, List<Map<String, Object>> params) {
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{id}/sections:batch", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private Map<String, Object> sectionParam(Long upStationId, Long downStationId, int distance) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("upStationId", upStationId);
+        param.put("downStationId", downStationId);
+        param.put("distance", distance);
+        return param;
+    }
+
     private ExtractableResponse<Response> deleteSection(long lineId, long stationId) {
         return RestAssured.given().log().all()
                 .param("stationId", stationId)
@@ -0,0 +1,223 @@
+package nextstep.subway.section;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.application.LineMutationExecutor;
+import nextstep.subway.application.LineService;
+import nextstep.subway.application.SectionService;
+import nextstep.subway.application.StationService;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.dto.LineRequest;
+import nextstep.subway.dto.SectionRequest;
+import nextstep.subway.dto.StationRequest;
+import nextstep.subway.util.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("지하철 구간 동시 변경")
+@ActiveProfiles("test")
+@SpringBootTest
+class SectionConcurrencyTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int STATION_COUNT = 40;
+    private static final int SECTION_DISTANCE = 100;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private LineMutationExecutor lineMutationExecutor;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private List<Long> lineStationIds;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.cleanUp();
+    }
+
+    /*
+     * Given 구간이 여러 개인 지하철 노선을 생성하고
+     * When 여러 스레드가 동시에 서로 다른 구간에 새로운 역을 추가하고 그중 절반을 다시 삭제하면
+     * Then 노선의 구간은 끊기지 않고 전체 거리는 처음 노선의 거리와 같다
+     */
+    @Test
+    void 같은_노선의_구간을_동시에_추가하고_삭제() throws InterruptedException, ExecutionException {
+        // given
+        Long lineId = createLineWithSections();
+        List<Long> newStationIds = createNewStations();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < newStationIds.size(); i++) {
+            Long lineStationId = lineStationIds.get(i);
+            Long stationId = newStationIds.get(i);
+            boolean remove = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    sectionService.saveSection(lineId, new SectionRequest(lineStationId, stationId, 1));
+                    if (remove) {
+                        lineService.removeSectionByStationId(lineId, stationId);
+                    }
+                } catch (OptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        Line line = lineRepository.findByIdWithSections(lineId).get();
+        List<Section> sections = line.getSections().getSections();
+        List<Section> orderSections = line.getSections().getOrderSections();
+        assertAll(
+                () -> assertThat(sections.stream().mapToInt(Section::getDistance).sum()).isEqualTo(STATION_COUNT * SECTION_DISTANCE),
+                () -> assertThat(orderSections).hasSameSizeAs(sections),
+                () -> assertThat(orderSections.get(0).getUpStation().getId()).isEqualTo(lineStationIds.get(0)),
+                () -> assertThat(orderSections.get(orderSections.size() - 1).getDownStation().getId()).isEqualTo(lineStationIds.get(STATION_COUNT)),
+                () -> assertThat(sections.size()).isLessThanOrEqualTo(STATION_COUNT + STATION_COUNT / 2 + conflicts.get())
+        );
+    }
+
+    /*
+     * Given 구간이 여러 개인 지하철 노선을 생성하고
+     * When 여러 스레드가 노선별 실행기를 통해 동시에 서로 다른 구간에 새로운 역을 추가하고 그중 절반을 다시 삭제하면
+     * Then 같은 노선의 변경은 차례대로 실행되어 충돌 없이 모든 변경이 반영된다
+     */
+    @Test
+    void 노선별_실행기로_같은_노선의_구간을_동시에_추가하고_삭제() throws InterruptedException, ExecutionException {
+        // given
+        Long lineId = createLineWithSections();
+        List<Long> newStationIds = createNewStations();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < newStationIds.size(); i++) {
+            Long lineStationId = lineStationIds.get(i);
+            Long stationId = newStationIds.get(i);
+            boolean remove = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                lineMutationExecutor.execute(lineId, () -> sectionService.saveSection(lineId, new SectionRequest(lineStationId, stationId, 1)));
+                if (remove) {
+                    lineMutationExecutor.execute(lineId, () -> lineService.removeSectionByStationId(lineId, stationId));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        Line line = lineRepository.findByIdWithSections(lineId).get();
+        List<Section> sections = line.getSections().getSections();
+        assertAll(
+                () -> assertThat(sections.stream().mapToInt(Section::getDistance).sum()).isEqualTo(STATION_COUNT * SECTION_DISTANCE),
+                () -> assertThat(sections).hasSize(STATION_COUNT + STATION_COUNT / 2),
+                () -> assertThat(line.getSections().getOrderSections()).hasSameSizeAs(sections)
+        );
+    }
+
+    /*
+     * Given 줄 하나에 작업을 하나만 받는 노선별 실행기에서 작업 하나가 실행 중일 때
+     * When 같은 노선의 작업을 더 맡기면
+     * Then 기다리지 않고 바로 거절된다
+     */
+    @Test
+    void 노선별_실행기의_대기열이_가득_차면_거절() throws InterruptedException, ExecutionException {
+        // given
+        LineMutationExecutor executor = new LineMutationExecutor(new SimpleMeterRegistry(), 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = executor.submit(1L, () -> {
+            running.countDown();
+            awaitQuietly(release);
+            return null;
+        });
+        running.await();
+
+        // when, then
+        assertAll(
+                () -> assertThatThrownBy(() -> executor.execute(1L, () -> { })).isInstanceOf(TaskRejectedException.class),
+                () -> assertThatThrownBy(() -> executor.submit(1L, () -> null)).isInstanceOf(TaskRejectedException.class)
+        );
+        release.countDown();
+        first.get();
+        executor.shutdown();
+    }
+
+    /**
+     * 새로운 역마다 나눌 구간이 따로 있도록 STATION_COUNT 개의 구간으로 이루어진 노선을 만듭니다.
+     */
+    private Long createLineWithSections() {
+        lineStationIds = new ArrayList<>();
+        for (int i = 0; i <= STATION_COUNT; i++) {
+            lineStationIds.add(stationService.saveStation(new StationRequest("역" + i)).getId());
+        }
+        Long lineId = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", lineStationIds.get(0), lineStationIds.get(1), SECTION_DISTANCE)).getId();
+        List<SectionRequest> sectionRequests = new ArrayList<>();
+        for (int i = 1; i < STATION_COUNT; i++) {
+            sectionRequests.add(new SectionRequest(lineStationIds.get(i), lineStationIds.get(i + 1), SECTION_DISTANCE));
+        }
+        sectionService.saveSections(lineId, sectionRequests);
+        return lineId;
+    }
+
+    private List<Long> createNewStations() {
+        List<Long> newStationIds = new ArrayList<>();
+        for (int i = 0; i < STATION_COUNT; i++) {
+            newStationIds.add(stationService.saveStation(new StationRequest("새로운역" + i)).getId());
+        }
+        return newStationIds;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
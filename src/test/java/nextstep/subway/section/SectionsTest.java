@@ -0,0 +1,107 @@
+package nextstep.subway.section;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SectionsTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 판교역;
+    private Station 광교역;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station(1L, "강남역");
+        양재역 = new Station(2L, "양재역");
+        판교역 = new Station(3L, "판교역");
+        광교역 = new Station(4L, "광교역");
+    }
+
+    @Test
+    void 상행역부터_하행역_순서로_구간_정렬() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.addSection(new Section(판교역, 광교역, 10));
+        line.addSection(new Section(강남역, 양재역, 5));
+        line.addSection(new Section(양재역, 판교역, 7));
+
+        List<Section> sections = line.getSections().getOrderSections();
+
+        assertThat(sections).extracting(Section::getUpStation).containsExactly(강남역, 양재역, 판교역);
+        assertThat(sections).extracting(Section::getDownStation).containsExactly(양재역, 판교역, 광교역);
+    }
+
+    @Test
+    void 구간_추가_시_정렬_결과_갱신() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.addSection(new Section(양재역, 판교역, 7));
+        line.getSections().getOrderSections();
+
+        line.addSection(new Section(강남역, 양재역, 5));
+
+        assertThat(line.getSections().getOrderSections()).extracting(Section::getUpStation).containsExactly(강남역, 양재역);
+    }
+
+    @Test
+    void 역_사이에_새로운_역_추가_시_기존_구간_분리() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.insertSection(new Section(강남역, 판교역, 10));
+
+        line.insertSection(new Section(강남역, 양재역, 4));
+        line.insertSection(new Section(광교역, 판교역, 3));
+
+        List<Section> sections = line.getSections().getOrderSections();
+        assertThat(sections).extracting(Section::getUpStation).containsExactly(강남역, 양재역, 광교역);
+        assertThat(sections).extracting(Section::getDistance).containsExactly(4, 3, 3);
+    }
+
+    @Test
+    void 중간역_제거_시_앞뒤_구간_병합() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.insertSection(new Section(강남역, 양재역, 5));
+        line.insertSection(new Section(양재역, 판교역, 7));
+        line.insertSection(new Section(판교역, 광교역, 3));
+
+        line.removeStation(양재역.getId());
+
+        List<Section> sections = line.getSections().getOrderSections();
+        assertThat(sections).extracting(Section::getUpStation).containsExactly(강남역, 판교역);
+        assertThat(sections).extracting(Section::getDistance).containsExactly(12, 3);
+    }
+
+    @Test
+    void 노선에_없는_역_제거_시_예외발생() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.insertSection(new Section(강남역, 양재역, 5));
+        line.insertSection(new Section(양재역, 판교역, 7));
+
+        assertThatThrownBy(() -> line.removeStation(광교역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 상행역과_하행역이_모두_등록된_구간_추가_시_예외발생() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.insertSection(new Section(강남역, 양재역, 5));
+        line.insertSection(new Section(양재역, 판교역, 5));
+
+        assertThatThrownBy(() -> line.insertSection(new Section(강남역, 판교역, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 상행역과_하행역_모두_없는_구간_추가_시_예외발생() {
+        Line line = new Line("신분당선", "bg-red-600");
+        line.insertSection(new Section(강남역, 양재역, 5));
+
+        assertThatThrownBy(() -> line.insertSection(new Section(판교역, 광교역, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,261 @@
+package nextstep.subway.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.restassured.path.json.JsonPath;
+import nextstep.subway.application.LineService;
+import nextstep.subway.application.NetworkSnapshotService;
+import nextstep.subway.application.SectionService;
+import nextstep.subway.application.StationService;
+import nextstep.subway.domain.LineChangedEvent;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.dto.CursorRequest;
+import nextstep.subway.dto.LineRequest;
+import nextstep.subway.dto.SectionRequest;
+import nextstep.subway.dto.StationRequest;
+import nextstep.subway.dto.StationResponse;
+import nextstep.subway.util.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("노선, 지하철역 조회 스냅샷")
+@ActiveProfiles("test")
+@SpringBootTest
+class NetworkSnapshotServiceTest {
+    @Autowired
+    private NetworkSnapshotService networkSnapshotService;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private SectionService sectionService;
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Long upStationId;
+    private Long downStationId;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.afterPropertiesSet();
+        databaseCleanup.cleanUp();
+
+        upStationId = stationService.saveStation(new StationRequest("강남역")).getId();
+        downStationId = stationService.saveStation(new StationRequest("판교역")).getId();
+    }
+
+    /*
+     * When 지하철 노선을 생성하고 이름을 수정하면
+     * Then 스냅샷의 노선 응답도 바로 바뀐다
+     * When 지하철 노선을 삭제하면
+     * Then 스냅샷에서 노선을 찾을 수 없다
+     */
+    @Test
+    void 노선_변경_후_스냅샷_반영() {
+        // given
+        double refreshCount = refreshCount("line");
+
+        // when
+        Long lineId = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 10)).getId();
+        lineService.modifyLine(lineId, new LineRequest("구분당선", "bg-blue-600", null, null, 0));
+        JsonPath line = findLine(lineId);
+
+        // then
+        assertAll(
+                () -> assertThat(line.getString("name")).isEqualTo("구분당선"),
+                () -> assertThat(line.getList("sections.upStation.name")).containsExactly("강남역"),
+                () -> assertThat(refreshCount("line")).isEqualTo(refreshCount + 2)
+        );
+
+        // when
+        lineService.deleteLineById(lineId);
+
+        // then
+        assertThatThrownBy(() -> networkSnapshotService.findLineById(lineId)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 구간을 추가하면
+     * Then 스냅샷의 노선 응답에 새로운 구간이 순서대로 보인다
+     * When 추가한 역을 구간에서 제거하면
+     * Then 스냅샷의 노선 응답에서도 제거된다
+     */
+    @Test
+    void 구간_변경_후_스냅샷_반영() {
+        // given
+        Long lineId = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 10)).getId();
+        Long newStationId = stationService.saveStation(new StationRequest("양재역")).getId();
+
+        // when
+        sectionService.saveSection(lineId, new SectionRequest(upStationId, newStationId, 4));
+
+        // then
+        assertThat(findLine(lineId).getList("sections.downStation.name")).containsExactly("양재역", "판교역");
+
+        // when
+        lineService.removeSectionByStationId(lineId, newStationId);
+
+        // then
+        assertThat(findLine(lineId).getList("sections.downStation.name")).containsExactly("판교역");
+    }
+
+    /*
+     * When 지하철역을 생성하고 삭제하면
+     * Then 스냅샷의 지하철역 목록에 차례대로 반영된다
+     */
+    @Test
+    void 지하철역_변경_후_스냅샷_반영() {
+        // when
+        Long stationId = stationService.saveStation(new StationRequest("양재역")).getId();
+
+        // then
+        assertThat(findStationNames()).containsExactly("강남역", "판교역", "양재역");
+
+        // when
+        stationService.deleteStationById(stationId);
+
+        // then
+        assertAll(
+                () -> assertThat(findStationNames()).containsExactly("강남역", "판교역"),
+                () -> assertThat(meterRegistry.get("subway.snapshot.size").tag("type", "station").gauge().value()).isEqualTo(2)
+        );
+    }
+
+    /*
+     * Given 지하철 노선을 생성하고
+     * When 다른 인스턴스처럼 이벤트 없이 데이터베이스에서 노선 이름을 바꾸고 지하철역을 추가한 뒤
+     * And 데이터베이스와 스냅샷을 동기화하면
+     * Then 스냅샷에 바뀐 노선과 추가한 지하철역이 보인다
+     */
+    @Test
+    void 이벤트_없이_바뀐_데이터베이스를_동기화로_반영() {
+        // given
+        Long lineId = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 10)).getId();
+
+        // when
+        jdbcTemplate.update("update line set name = ?, version = version + 1 where id = ?", "구분당선", lineId);
+        stationRepository.save(new Station("양재역"));
+        networkSnapshotService.resync();
+
+        // then
+        assertAll(
+                () -> assertThat(findLine(lineId).getString("name")).isEqualTo("구분당선"),
+                () -> assertThat(findStationNames()).containsExactly("강남역", "판교역", "양재역")
+        );
+    }
+
+    /*
+     * Given 노선 조회가 한 번 실패하는 스냅샷을 두고
+     * When 노선을 수정한 뒤 변경 이벤트로 갱신하면
+     * Then 예외가 밖으로 나가지 않고
+     * Then 예약된 전체 읽기가 끝나면 스냅샷에 수정한 노선이 보인다
+     */
+    @Test
+    void 스냅샷_갱신_실패_후_전체를_다시_읽음() {
+        // given
+        Long lineId = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", upStationId, downStationId, 10)).getId();
+        LineRepository failingLineRepository = mock(LineRepository.class, delegatesTo(lineRepository));
+        willThrow(new IllegalStateException("조회 실패")).given(failingLineRepository).findByIdWithSections(lineId);
+        NetworkSnapshotService snapshotService = new NetworkSnapshotService(failingLineRepository, stationRepository, objectMapper,
+                transactionManager, new SimpleMeterRegistry(), eventPublisher, Duration.ZERO);
+        snapshotService.afterSingletonsInstantiated();
+
+        try {
+            // when
+            lineService.modifyLine(lineId, new LineRequest("구분당선", "bg-blue-600", null, null, 0));
+            snapshotService.onLineChanged(new LineChangedEvent(lineId));
+
+            // then
+            assertThat(awaitLineName(snapshotService, lineId, "구분당선")).isEqualTo("구분당선");
+        } finally {
+            snapshotService.shutdown();
+        }
+    }
+
+    private String awaitLineName(NetworkSnapshotService snapshotService, Long lineId, String expected) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String name = findLine(snapshotService, lineId).getString("name");
+        while (!expected.equals(name) && System.currentTimeMillis() < deadline) {
+            sleep();
+            name = findLine(snapshotService, lineId).getString("name");
+        }
+        return name;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonPath findLine(Long lineId) {
+        return findLine(networkSnapshotService, lineId);
+    }
+
+    private JsonPath findLine(NetworkSnapshotService snapshotService, Long lineId) {
+        return JsonPath.from(new String(snapshotService.findLineById(lineId).getBody(), StandardCharsets.UTF_8));
+    }
+
+    private List<String> findStationNames() {
+        return networkSnapshotService.findStations(CursorRequest.UNPAGED).getItems().stream()
+                .map(StationResponse::getName)
+                .collect(Collectors.toList());
+    }
+
+    private double refreshCount(String type) {
+        return meterRegistry.get("subway.snapshot.refresh").tag("type", type).timer().count();
+    }
+}
@@ -3,6 +3,7 @@ package nextstep.subway.station;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.dto.CursorRequest;
 import nextstep.subway.util.DatabaseCleanup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +15,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 @DisplayName("지하철역 관련 기능")
 @ActiveProfiles("test")
@@ -101,15 +105,96 @@ public class StationAcceptanceTest {
     @Test
     void deleteStation() {
         // given
-        createStation("강남역");
+        Long stationId = createStation("강남역").jsonPath().getLong("id");
 
         // when
-        ExtractableResponse<Response> response = deleteStation(1L);
+        ExtractableResponse<Response> response = deleteStation(stationId);
 
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
-        List<Long> stationIds = findStations().jsonPath().getList("id");
-        assertThat(stationIds).doesNotContain(1L);
+        List<Long> stationIds = findStations().jsonPath().getList("id", Long.class);
+        assertThat(stationIds).doesNotContain(stationId);
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 기존 역 이름과 중복된 이름이 섞인 지하철역 목록을 한 번에 생성하면
+     * Then 새 이름만 생성되고 중복된 이름은 기존 역으로 응답 받는다
+     */
+    @DisplayName("지하철역을 일괄 생성한다.")
+    @Test
+    void createStations() {
+        // given
+        Long gangnamId = createStation("강남역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> response = createStations("역삼역", "강남역", "역삼역", "선릉역");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("status", String.class))
+                .containsExactly("CREATED", "DUPLICATED", "DUPLICATED", "CREATED");
+        List<Long> ids = response.jsonPath().getList("id", Long.class);
+        assertThat(ids.get(1)).isEqualTo(gangnamId);
+        assertThat(ids.get(2)).isEqualTo(ids.get(0));
+        assertThat(findStations().jsonPath().getList("name", String.class))
+                .containsExactlyInAnyOrder("강남역", "역삼역", "선릉역");
+    }
+
+    /**
+     * Given 기본 조회 개수보다 많은 지하철역을 생성하고
+     * When 조회 개수와 커서 없이 지하철역 목록을 조회하면
+     * Then 모든 지하철역을 한 번에 응답 받는다
+     */
+    @DisplayName("조회 개수 없이 지하철역 목록을 조회하면 전체 목록을 응답한다.")
+    @Test
+    void getAllStationsWithoutCursor() {
+        // given
+        String[] stationNames = IntStream.rangeClosed(1, CursorRequest.DEFAULT_LIMIT + 1)
+                .mapToObj(i -> "역" + i)
+                .toArray(String[]::new);
+        createStations(stationNames);
+
+        // when
+        ExtractableResponse<Response> response = findStations();
+
+        // then
+        assertThat(response.jsonPath().getList("name", String.class)).hasSize(stationNames.length);
+        assertThat(response.header("Link")).isNull();
+    }
+
+    /**
+     * Given 지하철역을 생성하고 목록을 조회한 뒤
+     * When 응답받은 ETag 나 Last-Modified 로 다시 조회하면
+     * Then 본문 없이 304 응답을 받고
+     * When 지하철역을 추가한 뒤 같은 ETag 로 조회하면
+     * Then 새 목록을 응답받는다
+     */
+    @DisplayName("지하철역 목록을 조건부로 조회한다.")
+    @Test
+    void getStationsConditionally() {
+        // given
+        createStation("강남역");
+        ExtractableResponse<Response> stations = findStations();
+        String eTag = stations.header("ETag");
+        String lastModified = stations.header("Last-Modified");
+
+        // when
+        ExtractableResponse<Response> notModifiedByETag = findStations("If-None-Match", eTag);
+        ExtractableResponse<Response> notModifiedByDate = findStations("If-Modified-Since", lastModified);
+        createStation("역삼역");
+        ExtractableResponse<Response> modified = findStations("If-None-Match", eTag);
+
+        // then
+        assertAll(
+                () -> assertThat(eTag).isNotNull(),
+                () -> assertThat(lastModified).isNotNull(),
+                () -> assertThat(notModifiedByETag.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(notModifiedByETag.body().asString()).isEmpty(),
+                () -> assertThat(notModifiedByDate.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(modified.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modified.jsonPath().getList("name", String.class)).containsExactly("강남역", "역삼역")
+        );
     }
 
     public ExtractableResponse<Response> createStation(String stationName) {
@@ -124,6 +209,22 @@ public class StationAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> createStations(String... stationNames) {
+        List<Map<String, String>> params = new ArrayList<>();
+        for (String stationName : stationNames) {
+            Map<String, String> param = new HashMap<>();
+            param.put("name", stationName);
+            params.add(param);
+        }
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations:batch")
+                .then().log().all()
+                .extract();
+    }
+
     private ExtractableResponse<Response> deleteStation(Long id) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -138,4 +239,12 @@ public class StationAcceptanceTest {
                         .then().log().all()
                         .extract();
     }
+
+    private ExtractableResponse<Response> findStations(String conditionHeader, String value) {
+        return RestAssured.given().log().all()
+                .header(conditionHeader, value)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
 }
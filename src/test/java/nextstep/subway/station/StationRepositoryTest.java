@@ -2,20 +2,29 @@ package nextstep.subway.station;
 
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class StationRepositoryTest {
     @Autowired
     private StationRepository stationRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void 지하철역_저장() {
         Station station = new Station("강남역");
@@ -33,7 +42,7 @@ class StationRepositoryTest {
         Station station2 = new Station("강남역");
         stationRepository.save(station1);
 
-        assertThatThrownBy(() -> stationRepository.save(station2)).isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> stationRepository.saveAndFlush(station2)).isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -51,4 +60,24 @@ class StationRepositoryTest {
 
         assertThat(stationRepository.findById(station.getId())).isEmpty();
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 지하철역_재조회_시_2차_캐시에서_조회() {
+        Station station = stationRepository.save(new Station("강남역"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        try {
+            stationRepository.findById(station.getId());
+            stationRepository.findById(station.getId());
+
+            assertAll(
+                    () -> assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2),
+                    () -> assertThat(statistics.getPrepareStatementCount()).isZero()
+            );
+        } finally {
+            stationRepository.deleteById(station.getId());
+        }
+    }
 }
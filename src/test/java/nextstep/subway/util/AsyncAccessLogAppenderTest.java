@@ -0,0 +1,232 @@
+package nextstep.subway.util;
+
+import ch.qos.logback.access.spi.AccessEvent;
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.access.spi.ServerAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.ui.BodySamplingFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("비동기 접근 로그")
+class AsyncAccessLogAppenderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    /*
+     * Given 버퍼에 한 줄만 들어가고 출력이 막혀 있을 때
+     * When 접근 로그를 계속 남기면
+     * Then 넘친 로그는 버리고 버린 수를 지표와 로그로 남긴다
+     * When 멈추면
+     * Then 지표를 지운다
+     */
+    @Test
+    void 버퍼가_가득_차면_버린_수를_남기고_멈출_때_지표를_지움() throws Exception {
+        // given
+        BlockingOutputStream output = new BlockingOutputStream();
+        AsyncAccessLogAppender appender = new AsyncAccessLogAppender(output);
+        appender.setQueueSize(1);
+        appender.start();
+        appender.doAppend(accessEvent("/lines/1"));
+        output.writing.await();
+
+        // when
+        appender.doAppend(accessEvent("/lines/2"));
+        appender.doAppend(accessEvent("/lines/3"));
+        appender.doAppend(accessEvent("/lines/4"));
+
+        // then
+        assertThat(droppedCounter(appender).count()).isEqualTo(2);
+
+        // when
+        output.release.countDown();
+        appender.stop();
+
+        // then
+        assertAll(
+                () -> assertThat(output.written()).contains("uri=/lines/1", "uri=/lines/2", "access-log dropped=2 total_dropped=2"),
+                () -> assertThat(output.written()).doesNotContain("uri=/lines/3", "uri=/lines/4"),
+                () -> assertThat(meterRegistry.find("subway.access.log.dropped").tag(AsyncAccessLogAppender.INSTANCE_TAG, appender.getInstance())
+                        .functionCounter()).isNull(),
+                () -> assertThat(meterRegistry.find("subway.access.log.queue").tag(AsyncAccessLogAppender.INSTANCE_TAG, appender.getInstance())
+                        .gauge()).isNull()
+        );
+    }
+
+    /*
+     * Given 접근 로그 두 개를 시작하고
+     * When 하나를 멈추면
+     * Then 멈추지 않은 접근 로그의 지표는 남아 버린 수를 계속 센다
+     */
+    @Test
+    void 멈춘_접근_로그의_지표만_지움() {
+        // given
+        AsyncAccessLogAppender stopped = new AsyncAccessLogAppender(new ByteArrayOutputStream());
+        AsyncAccessLogAppender running = new AsyncAccessLogAppender(new ByteArrayOutputStream());
+        stopped.start();
+        running.start();
+
+        // when
+        stopped.stop();
+
+        // then
+        try {
+            assertAll(
+                    () -> assertThat(meterRegistry.find("subway.access.log.dropped").tag(AsyncAccessLogAppender.INSTANCE_TAG, stopped.getInstance())
+                            .functionCounter()).isNull(),
+                    () -> assertThat(droppedCounter(running)).isNotNull()
+            );
+        } finally {
+            running.stop();
+        }
+    }
+
+    @Test
+    void 표본_비율이_1이면_요청_응답_본문을_함께_남김() throws Exception {
+        assertThat(filterAppendAndStop(1.0)).contains("uri=/lines/1", "{\"distance\":10}", "{\"id\":1}");
+    }
+
+    @Test
+    void 표본_비율이_0이면_요청_응답_본문을_남기지_않음() throws Exception {
+        assertThat(filterAppendAndStop(0))
+                .contains("uri=/lines/1")
+                .doesNotContain("{\"distance\":10}", "{\"id\":1}");
+    }
+
+    /**
+     * 본문 표본 필터를 거쳐 요청 본문을 읽고 응답 본문을 쓴 요청을 접근 로그로 남깁니다.
+     */
+    private String filterAppendAndStop(double fullBodySampleRate) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/lines/1");
+        request.setContent("{\"distance\":10}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new EchoServlet(), new BodySamplingFilter(fullBodySampleRate)).doFilter(request, response);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AsyncAccessLogAppender appender = new AsyncAccessLogAppender(output);
+        appender.start();
+        appender.doAppend(accessEvent(request, response));
+        appender.stop();
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private FunctionCounter droppedCounter(AsyncAccessLogAppender appender) {
+        return meterRegistry.get("subway.access.log.dropped").tag(AsyncAccessLogAppender.INSTANCE_TAG, appender.getInstance()).functionCounter();
+    }
+
+    private IAccessEvent accessEvent(String uri) {
+        return accessEvent(new MockHttpServletRequest("POST", uri), new MockHttpServletResponse());
+    }
+
+    private IAccessEvent accessEvent(MockHttpServletRequest request, MockHttpServletResponse response) {
+        return new AccessEvent(request, response, new ServerAdapter() {
+            @Override
+            public long getRequestTimestamp() {
+                return System.currentTimeMillis();
+            }
+
+            @Override
+            public long getContentLength() {
+                return 0;
+            }
+
+            @Override
+            public int getStatusCode() {
+                return response.getStatus();
+            }
+
+            @Override
+            public Map<String, String> buildResponseHeaderMap() {
+                return Collections.emptyMap();
+            }
+        });
+    }
+
+    /**
+     * 컨트롤러처럼 요청 본문을 끝까지 읽고 응답 본문을 씁니다.
+     */
+    private static class EchoServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            StreamUtils.copyToByteArray(request.getInputStream());
+            response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 처음 내보낼 때 release 가 열릴 때까지 멈춰서 출력 스레드가 느린 상황을 만듭니다.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public synchronized void write(int b) {
+            buffer.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (writing.getCount() > 0) {
+                writing.countDown();
+                awaitRelease();
+            }
+            synchronized (this) {
+                buffer.write(b, off, len);
+            }
+        }
+
+        // 멈출 때 보내는 인터럽트가 먼저 도착해도 이미 받은 로그를 잃지 않도록 release 가 열릴 때까지 기다립니다.
+        private void awaitRelease() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized String written() {
+            return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}